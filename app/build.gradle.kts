@@ -57,18 +57,12 @@ dependencies {
     implementation("com.google.android.material:material:1.11.0")
     implementation("androidx.constraintlayout:constraintlayout:2.1.4")
 
-    // Apache POI (PPTX reading)
-    implementation("org.apache.poi:poi:5.2.3")
-    implementation("org.apache.poi:poi-ooxml:5.2.3")
+    // Deck parsing and question generation (pure Java, brings Apache POI)
+    implementation(project(":core"))
 
 
     implementation("com.github.bumptech.glide:glide:4.16.0")
 
-    // Required by POI
-    implementation("org.apache.xmlbeans:xmlbeans:5.1.1")
-    implementation("org.apache.commons:commons-compress:1.21")
-    implementation("commons-io:commons-io:2.11.0")
-
     // JSON
     implementation("com.google.code.gson:gson:2.10.1")
 
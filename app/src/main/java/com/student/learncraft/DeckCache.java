@@ -0,0 +1,55 @@
+package com.student.learncraft;
+
+import android.content.Context;
+import java.io.File;
+
+/**
+ * Parsed decks kept in app-private storage, keyed by DeckFingerprint.
+ * A hit skips reading and parsing the PPTX entirely.
+ */
+public class DeckCache {
+
+    private static final String DIR_NAME = "deck_cache";
+    private static final long MAX_BYTES = 32L * 1024 * 1024;
+
+    private final DiskCache diskCache;
+
+    public DeckCache(Context context) {
+        this.diskCache = new DiskCache(new File(context.getFilesDir(), DIR_NAME), MAX_BYTES);
+    }
+
+    /**
+     * Get a parsed deck, or null if this version of it isn't cached
+     */
+    public PPTContent get(String fingerprint) {
+        byte[] data = diskCache.get(fingerprint);
+        if (data == null) return null;
+
+        try {
+            return DeckCodec.decodeDeck(data);
+        } catch (Exception e) {
+            // Old or corrupt entry
+            diskCache.remove(fingerprint);
+            return null;
+        }
+    }
+
+    /**
+     * Save a parsed deck under its fingerprint
+     */
+    public void put(String fingerprint, PPTContent content) {
+        try {
+            diskCache.put(fingerprint, DeckCodec.encodeDeck(content));
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Drop every cached version of a deck
+     */
+    public void invalidate(String uriString) {
+        if (uriString == null) return;
+        diskCache.removePrefix(DeckFingerprint.uriPrefix(uriString));
+    }
+}
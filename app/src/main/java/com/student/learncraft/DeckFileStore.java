@@ -0,0 +1,106 @@
+package com.student.learncraft;
+
+import android.content.Context;
+import android.net.Uri;
+import android.os.ParcelFileDescriptor;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * Private copies of uploaded decks, so they can be opened with random access.
+ * Each version of a deck is copied once and reused until it changes or is evicted.
+ */
+public class DeckFileStore {
+
+    private static final String DIR_NAME = "deck_files";
+    private static final long MAX_BYTES = 256L * 1024 * 1024;
+    private static final long CHUNK = 8L * 1024 * 1024;
+
+    private final Context context;
+    private final DiskCache diskCache;
+
+    public DeckFileStore(Context context) {
+        this.context = context.getApplicationContext();
+        this.diskCache = new DiskCache(new File(this.context.getFilesDir(), DIR_NAME), MAX_BYTES);
+    }
+
+    /**
+     * Returns the private copy of this deck, copying it first if needed
+     */
+    public File localCopy(Uri uri) throws Exception {
+        String fingerprint = DeckFingerprint.of(context, uri);
+
+        File existing = diskCache.getFile(fingerprint);
+        if (existing != null) return existing;
+
+        // Older versions of the same document are useless now
+        diskCache.removePrefix(DeckFingerprint.uriPrefix(uri.toString()));
+
+        File temp = diskCache.tempFile(fingerprint);
+        try (FileOutputStream out = new FileOutputStream(temp);
+             FileChannel target = out.getChannel()) {
+            if (!copyByDescriptor(uri, target)) {
+                target.truncate(0);
+                copyByStream(uri, target);
+            }
+        } catch (Exception e) {
+            temp.delete();
+            throw e;
+        }
+
+        File copy = diskCache.commit(fingerprint, temp);
+        if (copy == null) throw new Exception("Deck is too large to copy");
+        return copy;
+    }
+
+    /**
+     * Drop every copy of a deck
+     */
+    public void invalidate(String uriString) {
+        if (uriString == null) return;
+        diskCache.removePrefix(DeckFingerprint.uriPrefix(uriString));
+    }
+
+    /**
+     * Kernel-side copy with transferTo; only works when the descriptor is a real file
+     */
+    private boolean copyByDescriptor(Uri uri, FileChannel target) {
+        try (ParcelFileDescriptor pfd = context.getContentResolver().openFileDescriptor(uri, "r");
+             FileInputStream in = new FileInputStream(pfd.getFileDescriptor());
+             FileChannel source = in.getChannel()) {
+            long size = source.size();
+            if (size <= 0) return false;
+
+            long position = 0;
+            while (position < size) {
+                long sent = source.transferTo(position, Math.min(CHUNK, size - position), target);
+                if (sent <= 0) return false;
+                position += sent;
+            }
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * Plain copy for pipes and remote providers
+     */
+    private void copyByStream(Uri uri, FileChannel target) throws Exception {
+        try (InputStream in = context.getContentResolver().openInputStream(uri)) {
+            if (in == null) throw new Exception("Cannot open " + uri);
+            ReadableByteChannel source = Channels.newChannel(in);
+
+            long position = 0;
+            long sent;
+            while ((sent = target.transferFrom(source, position, CHUNK)) > 0) {
+                position += sent;
+            }
+        }
+    }
+}
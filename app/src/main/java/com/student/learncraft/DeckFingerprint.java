@@ -0,0 +1,88 @@
+package com.student.learncraft;
+
+import android.content.Context;
+import android.database.Cursor;
+import android.net.Uri;
+import android.provider.DocumentsContract;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Identifies one version of a deck.
+ * Keys look like "<uri hash>-<version hash>" so every version of a URI can be dropped at once.
+ */
+public class DeckFingerprint {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    /**
+     * Fingerprint from the document's size and last-modified time.
+     * Falls back to hashing the content when the provider doesn't report both.
+     */
+    public static String of(Context context, Uri uri) throws Exception {
+        long size = -1;
+        long lastModified = -1;
+
+        String[] projection = {
+                DocumentsContract.Document.COLUMN_SIZE,
+                DocumentsContract.Document.COLUMN_LAST_MODIFIED
+        };
+        try (Cursor cursor = context.getContentResolver().query(uri, projection, null, null, null)) {
+            if (cursor != null && cursor.moveToFirst()) {
+                int sizeIndex = cursor.getColumnIndex(DocumentsContract.Document.COLUMN_SIZE);
+                int modifiedIndex = cursor.getColumnIndex(DocumentsContract.Document.COLUMN_LAST_MODIFIED);
+                if (sizeIndex >= 0 && !cursor.isNull(sizeIndex)) size = cursor.getLong(sizeIndex);
+                if (modifiedIndex >= 0 && !cursor.isNull(modifiedIndex)) lastModified = cursor.getLong(modifiedIndex);
+            }
+        } catch (Exception e) {
+            // Not a document URI, use the content hash
+        }
+
+        String version;
+        if (size >= 0 && lastModified > 0) {
+            version = sha1(("meta:" + size + ":" + lastModified).getBytes(StandardCharsets.UTF_8));
+        } else {
+            version = contentHash(context, uri);
+        }
+        return uriPrefix(uri.toString()) + "-" + version;
+    }
+
+    /**
+     * Prefix shared by every fingerprint of this URI
+     */
+    public static String uriPrefix(String uriString) {
+        return sha1(uriString.getBytes(StandardCharsets.UTF_8)).substring(0, 16);
+    }
+
+    private static String contentHash(Context context, Uri uri) throws Exception {
+        MessageDigest digest = MessageDigest.getInstance("SHA-1");
+        try (InputStream in = context.getContentResolver().openInputStream(uri)) {
+            if (in == null) throw new Exception("Cannot open " + uri);
+            byte[] buffer = new byte[64 * 1024];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return toHex(digest.digest());
+    }
+
+    static String sha1(byte[] data) {
+        try {
+            return toHex(MessageDigest.getInstance("SHA-1").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        char[] out = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            out[i * 2] = HEX[(bytes[i] >> 4) & 0xF];
+            out[i * 2 + 1] = HEX[bytes[i] & 0xF];
+        }
+        return new String(out);
+    }
+}
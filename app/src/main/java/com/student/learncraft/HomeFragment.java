@@ -106,12 +106,15 @@ public class HomeFragment extends Fragment {
                     uri, Intent.FLAG_GRANT_READ_URI_PERMISSION);
         } catch (Exception e) { e.printStackTrace(); }
 
-        PPTReader pptReader = new PPTReader(requireContext());
+        PPTIngestSession session = PPTIngestSession.open(requireContext(), uri, fileName);
 
-        if (pptReader.isValidPPT(uri)) {
+        if (session.validate()) {
             PPTInfo pptInfo = new PPTInfo(fileName, uri.toString());
             storageManager.savePPTInfo(pptInfo);
 
+            // Parse once, QuizSetupActivity picks up the result
+            session.startParsing();
+
             Toast.makeText(requireContext(), "✅ PPT uploaded: " + fileName, Toast.LENGTH_SHORT).show();
 
             Intent intent = new Intent(requireActivity(), QuizSetupActivity.class);
@@ -119,6 +122,7 @@ public class HomeFragment extends Fragment {
             intent.putExtra("ppt_name", selectedPPTName);
             startActivity(intent);
         } else {
+            PPTIngestSession.discard(session);
             Toast.makeText(requireContext(), "❌ Invalid PPT file", Toast.LENGTH_SHORT).show();
         }
     }
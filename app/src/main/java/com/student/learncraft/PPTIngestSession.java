@@ -0,0 +1,242 @@
+package com.student.learncraft;
+
+import android.content.Context;
+import android.net.Uri;
+import android.util.Log;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One upload of a deck: a cheap validation followed by exactly one parse.
+ * The upload screen opens the session, QuizSetupActivity takes it over and
+ * waits for the parsed content instead of reading the file again.
+ * Slides are published as they are extracted, so the setup screen can work
+ * with a partial deck while the rest is still parsing.
+ */
+public class PPTIngestSession {
+
+    private static final String TAG = "PPTIngestSession";
+
+    // The last upload, until QuizSetupActivity picks it up. One slot, so a session the
+    // user backed out of is dropped by the next upload or the next deck opened.
+    private static PPTIngestSession pending;
+
+    private final Context context;
+    private final Uri uri;
+    private final String fileName;
+    private final PPTReader reader;
+    private final DeckCache deckCache;
+    private final FutureTask<PPTContent> parseTask;
+    private final AtomicBoolean started = new AtomicBoolean(false);
+    private volatile String fingerprint;
+
+    // Slides delivered so far, for screens that start before the parse finishes
+    private final List<PPTContent.SlideContent> slidesSoFar = new ArrayList<>();
+    private int slidesRead = 0;
+    private int totalSlides = -1;
+    // Keyword statistics, counted slide by slide as they are read
+    private TermStats termStats = new TermStats();
+    private ProgressListener progressListener;
+
+    /**
+     * Slide-level progress while a deck is being parsed. Called on the parsing thread.
+     */
+    public interface ProgressListener {
+        void onProgress(int slidesRead, int totalSlides, int usableSlides);
+    }
+
+    private PPTIngestSession(Context context, Uri uri, String fileName) {
+        this.context = context.getApplicationContext();
+        this.uri = uri;
+        this.fileName = fileName;
+        this.reader = new PPTReader(this.context);
+        this.deckCache = new DeckCache(this.context);
+        this.parseTask = new FutureTask<>(this::loadContent);
+    }
+
+    /**
+     * Opens a session and registers it so the next screen can take it over
+     */
+    public static synchronized PPTIngestSession open(Context context, Uri uri, String fileName) {
+        PPTIngestSession session = new PPTIngestSession(context, uri, fileName);
+        pending = session;
+        return session;
+    }
+
+    /**
+     * Takes over the session opened by the upload screen, or starts a fresh one
+     * (e.g. when a deck is reopened from the list)
+     */
+    public static synchronized PPTIngestSession take(Context context, Uri uri, String fileName) {
+        PPTIngestSession session = pending;
+        pending = null;
+        if (session != null && session.uri.equals(uri)) return session;
+        return new PPTIngestSession(context, uri, fileName);
+    }
+
+    public static synchronized void discard(PPTIngestSession session) {
+        if (pending == session) pending = null;
+    }
+
+    /**
+     * Structural sniff of the zip, no slides are parsed
+     */
+    public boolean validate() {
+        return reader.isValidPPT(uri);
+    }
+
+    /**
+     * Starts parsing on a background thread, so it overlaps the screen transition
+     */
+    public void startParsing() {
+        if (started.compareAndSet(false, true)) {
+            new Thread(parseTask, "ppt-ingest").start();
+        }
+    }
+
+    /**
+     * Returns the parsed deck, parsing on the calling thread if nothing started it yet
+     */
+    public PPTContent awaitContent() throws Exception {
+        if (started.compareAndSet(false, true)) {
+            parseTask.run();
+        }
+        try {
+            return parseTask.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof Exception ? (Exception) cause : new Exception(cause);
+        }
+    }
+
+    /**
+     * Cached copy if this version of the deck was parsed before, otherwise parse and cache it
+     */
+    private PPTContent loadContent() throws Exception {
+        String fingerprint = null;
+        try {
+            fingerprint = DeckFingerprint.of(context, uri);
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+
+        this.fingerprint = fingerprint;
+
+        if (fingerprint != null) {
+            PPTContent cached = deckCache.get(fingerprint);
+            if (cached != null) {
+                cached.setFileName(fileName);
+                // Entries saved before term stats existed
+                if (cached.getTermStats() == null) cached.setTermStats(TermStats.of(cached.getSlides()));
+                analyze(cached);
+                deliverAll(cached);
+                return cached;
+            }
+        }
+
+        PPTContent content = reader.readPPTParallel(uri, fileName, this::onSlideRead);
+        if (reader.getLastStats() != null) {
+            Log.i(TAG, fileName + ": " + reader.getLastStats());
+        }
+        content.setTermStats(termStatsFor(content));
+        if (fingerprint != null) {
+            deckCache.put(fingerprint, content);
+        }
+        analyze(content);
+        return content;
+    }
+
+    /**
+     * The stats counted while reading, unless the slides came from somewhere else (e.g. the POI fallback)
+     */
+    private synchronized TermStats termStatsFor(PPTContent content) {
+        return termStats.matches(content.getSlides()) ? termStats : TermStats.of(content.getSlides());
+    }
+
+    /**
+     * Classifies every sentence once, so quiz generation reads the results instead of re-deriving them
+     */
+    private void analyze(PPTContent content) {
+        try {
+            content.setAnalysis(new ContentAnalyzer().analyzeDeck(content));
+        } catch (RuntimeException e) {
+            // Generation falls back to its own text checks
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Registers for progress updates; the current progress is reported right away
+     */
+    public synchronized void setProgressListener(ProgressListener listener) {
+        this.progressListener = listener;
+        if (listener != null && totalSlides >= 0) {
+            listener.onProgress(slidesRead, totalSlides, slidesSoFar.size());
+        }
+    }
+
+    /**
+     * The slides extracted so far, in deck order
+     */
+    public synchronized PPTContent snapshot() {
+        PPTContent content = new PPTContent(fileName);
+        content.setSlides(new ArrayList<>(slidesSoFar));
+        return content;
+    }
+
+    public synchronized int getUsableSlideCount() {
+        return slidesSoFar.size();
+    }
+
+    private synchronized void onSlideRead(PPTContent.SlideContent slide, int read, int total) {
+        // A fallback reader starts over from the first slide
+        if (read <= slidesRead) {
+            slidesSoFar.clear();
+            termStats = new TermStats();
+        }
+
+        if (slide != null) {
+            slidesSoFar.add(slide);
+            termStats.addSlide(slide);
+        }
+        slidesRead = read;
+        totalSlides = total;
+        if (progressListener != null) {
+            progressListener.onProgress(slidesRead, totalSlides, slidesSoFar.size());
+        }
+    }
+
+    private synchronized void deliverAll(PPTContent content) {
+        slidesSoFar.clear();
+        slidesSoFar.addAll(content.getSlides());
+        slidesRead = totalSlides = content.getSlides().size();
+        if (progressListener != null) {
+            progressListener.onProgress(slidesRead, totalSlides, slidesSoFar.size());
+        }
+    }
+
+    /**
+     * What parsing inflated and skipped; null for cache hits and the POI fallback
+     */
+    public IngestStats getIngestStats() {
+        return reader.getLastStats();
+    }
+
+    /**
+     * Fingerprint of the deck version being read, or null if it couldn't be worked out
+     */
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public Uri getUri() {
+        return uri;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+}
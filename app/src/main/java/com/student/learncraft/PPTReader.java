@@ -2,16 +2,23 @@ package com.student.learncraft;
 
 import android.content.Context;
 import android.net.Uri;
-import org.apache.poi.xslf.usermodel.*;
+import android.os.ParcelFileDescriptor;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.InputStream;
-import java.util.List;
+import java.nio.channels.FileChannel;
 
 public class PPTReader {
 
     private Context context;
+    private DeckFileStore fileStore;
+    private PPTTextExtractor extractor;
 
     public PPTReader(Context context) {
         this.context = context;
+        this.fileStore = new DeckFileStore(context);
+        this.extractor = new PPTTextExtractor();
     }
 
     /**
@@ -20,85 +27,90 @@ public class PPTReader {
      * @return PPTContent object with all slides and text
      */
     public PPTContent readPPT(Uri uri, String fileName) throws Exception {
-        PPTContent pptContent = new PPTContent(fileName);
-
-        try {
-            // Open the PPT file
-            InputStream inputStream = context.getContentResolver().openInputStream(uri);
-            XMLSlideShow ppt = new XMLSlideShow(inputStream);
-
-            // Get all slides
-            List<XSLFSlide> slides = ppt.getSlides();
-
-            // Process each slide
-            for (XSLFSlide slide : slides) {
-                PPTContent.SlideContent slideContent = new PPTContent.SlideContent();
-
-                // Get all shapes (text boxes) in the slide
-                List<XSLFShape> shapes = slide.getShapes();
-
-                boolean titleFound = false;
-
-                for (XSLFShape shape : shapes) {
-                    if (shape instanceof XSLFTextShape) {
-                        XSLFTextShape textShape = (XSLFTextShape) shape;
-                        String text = textShape.getText();
-
-                        // Skip empty text
-                        if (text == null || text.trim().isEmpty()) {
-                            continue;
-                        }
-
-                        text = text.trim();
+        try (InputStream inputStream = context.getContentResolver().openInputStream(uri)) {
+            // Stream slide parts straight from the zip, no XMLSlideShow
+            return extractor.read(inputStream, fileName);
+        } catch (Exception e) {
+            // Fall back to the full POI model for decks the streaming reader can't handle
+            return readPPTWithPOI(uri, fileName);
+        }
+    }
 
-                        // First significant text is usually the title
-                        if (!titleFound && text.length() > 3) {
-                            slideContent.setTitle(text);
-                            titleFound = true;
-                        } else {
-                            // Split by newlines and add as bullet points
-                            String[] lines = text.split("\n");
-                            for (String line : lines) {
-                                line = line.trim();
-                                if (!line.isEmpty() && line.length() > 3) {
-                                    // Remove bullet point symbols
-                                    line = line.replaceAll("^[•·∙◦▪▫-]\\s*", "");
-                                    slideContent.addContentPoint(line);
-                                }
-                            }
-                        }
-                    }
-                }
+    /**
+     * Parallel ingest: slide parts are inflated and parsed across all cores.
+     * Documents that can't be read with random access are copied to private storage once.
+     */
+    public PPTContent readPPTParallel(Uri uri, String fileName) throws Exception {
+        return readPPTParallel(uri, fileName, null);
+    }
 
-                // Only add slide if it has content
-                if (slideContent.getTitle() != null || !slideContent.getContentPoints().isEmpty()) {
-                    pptContent.addSlide(slideContent);
-                }
+    /**
+     * Parallel ingest that hands each slide to the listener, in deck order, as soon as it's extracted
+     */
+    public PPTContent readPPTParallel(Uri uri, String fileName,
+                                      PPTStreamReader.SlideListener listener) throws Exception {
+        try (ParcelFileDescriptor pfd = context.getContentResolver().openFileDescriptor(uri, "r");
+             FileInputStream fileStream = new FileInputStream(pfd.getFileDescriptor())) {
+            FileChannel channel = fileStream.getChannel();
+            if (canSeek(channel)) {
+                return readSeekable(channel, uri, fileName, listener);
             }
+        } catch (FileNotFoundException e) {
+            // The provider has no descriptor for this document
+        }
+        // Descriptor can't seek (pipe, remote provider): random access on a private copy,
+        // with POI as the last resort
+        return extractor.read(fileStore.localCopy(uri).toPath(), fileName, listener);
+    }
 
-            ppt.close();
-            inputStream.close();
+    private PPTContent readSeekable(FileChannel channel, Uri uri, String fileName,
+                                    PPTStreamReader.SlideListener listener) throws Exception {
+        try {
+            return extractor.read(channel, fileName, listener);
+        } catch (IOException e) {
+            // Readable in place but not by the streaming reader, which would fail the same way on a copy
+            return extractor.readWithPOI(fileStore.localCopy(uri).toPath(), fileName, listener);
+        }
+    }
 
-        } catch (Exception e) {
-            throw new Exception("Error reading PPT file: " + e.getMessage());
+    private static boolean canSeek(FileChannel channel) {
+        try {
+            channel.position(0);
+            return true;
+        } catch (IOException e) {
+            return false;
         }
+    }
 
-        return pptContent;
+    /**
+     * Reads a PowerPoint file through Apache POI's XMLSlideShow (builds the whole object model)
+     */
+    public PPTContent readPPTWithPOI(Uri uri, String fileName) throws Exception {
+        return extractor.readWithPOI(fileStore.localCopy(uri).toPath(), fileName);
+    }
+
+    /**
+     * What the last streaming read inflated and skipped, or null if it went through POI
+     */
+    public IngestStats getLastStats() {
+        return extractor.getLastStats();
     }
 
     /**
-     * Validates if the file is a valid PowerPoint file
+     * Validates if the file is a valid PowerPoint file.
+     * Only sniffs the zip structure and [Content_Types].xml, no slide is parsed.
      */
     public boolean isValidPPT(Uri uri) {
-        try {
-            InputStream inputStream = context.getContentResolver().openInputStream(uri);
-            XMLSlideShow ppt = new XMLSlideShow(inputStream);
-            boolean valid = ppt.getSlides().size() > 0;
-            ppt.close();
-            inputStream.close();
-            return valid;
+        try (ParcelFileDescriptor pfd = context.getContentResolver().openFileDescriptor(uri, "r");
+             FileInputStream fileStream = new FileInputStream(pfd.getFileDescriptor())) {
+            return PPTPackageSniffer.isPresentation(fileStream.getChannel());
         } catch (Exception e) {
-            return false;
+            // Not seekable (pipe, remote provider) - walk the zip headers instead
+            try (InputStream inputStream = context.getContentResolver().openInputStream(uri)) {
+                return PPTPackageSniffer.isPresentation(inputStream);
+            } catch (Exception ignored) {
+                return false;
+            }
         }
     }
-}
\ No newline at end of file
+}
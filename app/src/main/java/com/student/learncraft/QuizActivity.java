@@ -32,6 +32,12 @@ public class QuizActivity extends AppCompatActivity implements QuizTimer.TimerLi
     private QuizTimer quizTimer;
     private boolean quizFinished = false;
 
+    // Streamed quizzes start with the first question and fetch the rest as they go
+    private QuestionStream stream;
+    private boolean streamEnded = false;
+    private boolean practiceMode = false;
+    private int expectedCount;
+
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
@@ -40,6 +46,12 @@ public class QuizActivity extends AppCompatActivity implements QuizTimer.TimerLi
         pptName = getIntent().getStringExtra("ppt_name");
         int timeMinutes = getIntent().getIntExtra("time_minutes", 20);
 
+        stream = QuizSetupActivity.QuizDataHolder.takeStream();
+        if (stream != null) {
+            startStreamed(timeMinutes);
+            return;
+        }
+
         questions = QuizSetupActivity.QuizDataHolder.getQuestions();
 
         if (questions == null || questions.isEmpty()) {
@@ -52,6 +64,7 @@ public class QuizActivity extends AppCompatActivity implements QuizTimer.TimerLi
         for (int i = 0; i < questions.size(); i++) {
             userAnswers.add(-1);
         }
+        expectedCount = questions.size();
 
         initViews();
 
@@ -61,6 +74,73 @@ public class QuizActivity extends AppCompatActivity implements QuizTimer.TimerLi
         loadQuestion();
     }
 
+    /**
+     * Shows question 1 as soon as the stream has it; practice mode has no count and no timer
+     */
+    private void startStreamed(int timeMinutes) {
+        practiceMode = getIntent().getBooleanExtra("practice_mode", false);
+        expectedCount = practiceMode ? -1 : getIntent().getIntExtra("question_count", 0);
+        questions = new ArrayList<>();
+        userAnswers = new ArrayList<>();
+
+        initViews();
+        tvQuestion.setText("Preparing questions...");
+        if (practiceMode) {
+            tvTimer.setText("🎯 Practice");
+        }
+
+        fetchNext(() -> {
+            if (questions.isEmpty()) {
+                Toast.makeText(this, "❌ Not enough content to generate questions. PPT needs more text content.", Toast.LENGTH_LONG).show();
+                finish();
+                return;
+            }
+            if (!practiceMode) {
+                quizTimer = new QuizTimer(timeMinutes, this);
+                quizTimer.start();
+            }
+            loadQuestion();
+        });
+    }
+
+    /**
+     * Appends the stream's next question, waiting off the UI thread if it isn't built yet
+     */
+    private void fetchNext(Runnable then) {
+        if (stream.isReady()) {
+            takeFromStream();
+            then.run();
+            return;
+        }
+
+        btnNext.setEnabled(false);
+        new Thread(() -> {
+            stream.hasNext();
+            runOnUiThread(() -> {
+                if (quizFinished || isFinishing()) return;
+                btnNext.setEnabled(true);
+                takeFromStream();
+                then.run();
+            });
+        }).start();
+    }
+
+    private void takeFromStream() {
+        if (stream.hasNext()) {
+            questions.add(stream.next());
+            userAnswers.add(-1);
+        } else {
+            streamEnded = true;
+            expectedCount = questions.size();
+        }
+    }
+
+    private boolean hasMoreQuestions() {
+        if (currentQuestionIndex < questions.size() - 1) return true;
+        if (stream == null || streamEnded) return false;
+        return practiceMode || questions.size() < expectedCount;
+    }
+
     private void initViews() {
         tvQuestion = findViewById(R.id.tvQuestion);
         tvQuestionNumber = findViewById(R.id.tvQuestionNumber);
@@ -93,15 +173,21 @@ public class QuizActivity extends AppCompatActivity implements QuizTimer.TimerLi
         btnNext.setOnClickListener(v -> nextQuestion());
         btnPrevious.setOnClickListener(v -> previousQuestion());
 
-        progressBar.setMax(questions.size());
+        progressBar.setMax(Math.max(expectedCount, 1));
     }
 
     private void loadQuestion() {
         MCQQuestion q = questions.get(currentQuestionIndex);
 
-        tvQuestionNumber.setText(
-                "Question " + (currentQuestionIndex + 1) + " of " + questions.size()
-        );
+        if (practiceMode) {
+            tvQuestionNumber.setText("Question " + (currentQuestionIndex + 1));
+            progressBar.setMax(questions.size());
+        } else {
+            tvQuestionNumber.setText(
+                    "Question " + (currentQuestionIndex + 1) + " of " + expectedCount
+            );
+            progressBar.setMax(expectedCount);
+        }
 
         progressBar.setProgress(currentQuestionIndex + 1);
         tvQuestion.setText(q.getQuestion());
@@ -122,9 +208,9 @@ public class QuizActivity extends AppCompatActivity implements QuizTimer.TimerLi
         btnPrevious.setEnabled(currentQuestionIndex > 0);
 
         btnNext.setText(
-                currentQuestionIndex == questions.size() - 1
-                        ? "Finish Quiz"
-                        : "Next Question"
+                hasMoreQuestions()
+                        ? "Next Question"
+                        : "Finish Quiz"
         );
     }
 
@@ -161,11 +247,21 @@ public class QuizActivity extends AppCompatActivity implements QuizTimer.TimerLi
             return;
         }
 
-        if (currentQuestionIndex == questions.size() - 1) {
-            finishQuiz();
-        } else {
+        if (currentQuestionIndex < questions.size() - 1) {
             currentQuestionIndex++;
             loadQuestion();
+        } else if (hasMoreQuestions()) {
+            fetchNext(() -> {
+                if (currentQuestionIndex < questions.size() - 1) {
+                    currentQuestionIndex++;
+                    loadQuestion();
+                } else {
+                    // Stream ran out early
+                    finishQuiz();
+                }
+            });
+        } else {
+            finishQuiz();
         }
     }
 
@@ -182,6 +278,15 @@ public class QuizActivity extends AppCompatActivity implements QuizTimer.TimerLi
 
         if (quizTimer != null) quizTimer.stop();
 
+        if (stream != null) {
+            stream.close();
+            finishStreamed();
+            if (questions.isEmpty()) {
+                finish();
+                return;
+            }
+        }
+
         int correct = 0;
         for (int i = 0; i < questions.size(); i++) {
             if (userAnswers.get(i) == questions.get(i).getCorrectAnswerIndex()) {
@@ -195,10 +300,59 @@ public class QuizActivity extends AppCompatActivity implements QuizTimer.TimerLi
         intent.putExtra("correct_answers", correct);
         intent.putExtra("total_questions", questions.size());
         intent.putExtra("ppt_name", pptName);
+        // Passed through for "Retake Quiz"
+        intent.putExtra("time_minutes", practiceMode ? questions.size() : getIntent().getIntExtra("time_minutes", 20));
+        intent.putExtra("deck_fingerprint", getIntent().getStringExtra("deck_fingerprint"));
+        intent.putExtra("requested_count", getIntent().getIntExtra("requested_count", 0));
+        intent.putExtra("quiz_seed", getIntent().getLongExtra("quiz_seed", 0));
         startActivity(intent);
         finish();
     }
 
+    /**
+     * Keeps only what was shown: practice drops the question left unanswered.
+     * A streamed quiz that ran to the end is cached for retakes.
+     */
+    private void finishStreamed() {
+        if (practiceMode) {
+            while (!userAnswers.isEmpty() && userAnswers.get(userAnswers.size() - 1) == -1) {
+                userAnswers.remove(userAnswers.size() - 1);
+                questions.remove(questions.size() - 1);
+            }
+        }
+        QuizSetupActivity.QuizDataHolder.setQuestions(questions);
+
+        String fingerprint = getIntent().getStringExtra("deck_fingerprint");
+        int requestedCount = getIntent().getIntExtra("requested_count", 0);
+        boolean complete = streamEnded || questions.size() == requestedCount;
+        if (!practiceMode && fingerprint != null && complete && !questions.isEmpty()) {
+            QuizCache quizCache = new QuizCache(this);
+            long seed = getIntent().getLongExtra("quiz_seed", 0);
+            List<MCQQuestion> quiz = new ArrayList<>(questions);
+            new Thread(() -> quizCache.put(fingerprint, requestedCount, seed, quiz)).start();
+        }
+    }
+
+    @Override
+    public void onBackPressed() {
+        if (!practiceMode || questions.isEmpty()) {
+            super.onBackPressed();
+            return;
+        }
+        new AlertDialog.Builder(this)
+                .setTitle("End practice?")
+                .setMessage("See your results for the questions answered so far.")
+                .setPositiveButton("End", (dialog, which) -> finishQuiz())
+                .setNegativeButton("Keep going", null)
+                .show();
+    }
+
+    @Override
+    protected void onDestroy() {
+        super.onDestroy();
+        if (stream != null) stream.close();
+    }
+
     @Override
     public void onTick(long ms, String time) {
         tvTimer.setText("⏱️ " + time);
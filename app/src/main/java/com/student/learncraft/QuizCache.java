@@ -0,0 +1,100 @@
+package com.student.learncraft;
+
+import android.content.Context;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Generated quizzes kept in app-private storage, keyed by deck fingerprint, question count and seed.
+ * A hit skips question generation, so retaking a quiz starts at once. For each count one quiz
+ * that hasn't been taken yet can be marked as the next one, so Start doesn't wait either.
+ */
+public class QuizCache {
+
+    private static final String DIR_NAME = "quiz_cache";
+    private static final long MAX_BYTES = 8L * 1024 * 1024;
+
+    private final DiskCache diskCache;
+
+    public QuizCache(Context context) {
+        this.diskCache = new DiskCache(new File(context.getFilesDir(), DIR_NAME), MAX_BYTES);
+    }
+
+    /**
+     * Get a generated quiz, or null if it isn't cached for this version of the deck
+     */
+    public List<MCQQuestion> get(String fingerprint, int questionCount, long seed) {
+        String key = key(fingerprint, questionCount, seed);
+        byte[] data = diskCache.get(key);
+        if (data == null) return null;
+
+        try {
+            return DeckCodec.decodeQuestions(data);
+        } catch (Exception e) {
+            // Old or corrupt entry
+            diskCache.remove(key);
+            return null;
+        }
+    }
+
+    /**
+     * Seed of the quiz waiting to be taken for this deck version and count, or null if there is none
+     */
+    public Long nextSeed(String fingerprint, int questionCount) {
+        byte[] data = diskCache.get(nextKey(fingerprint, questionCount));
+        if (data == null || data.length != Long.BYTES) return null;
+        return ByteBuffer.wrap(data).getLong();
+    }
+
+    /**
+     * Save a generated quiz so it can be retaken.
+     * Quizzes made from older versions of the same deck are dropped.
+     */
+    public void put(String fingerprint, int questionCount, long seed, List<MCQQuestion> questions) {
+        try {
+            diskCache.removeStale(uriPrefix(fingerprint), fingerprint);
+            diskCache.put(key(fingerprint, questionCount, seed), DeckCodec.encodeQuestions(questions));
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Save a quiz nobody has seen yet and make it the next one Start gets for this count
+     */
+    public void putNext(String fingerprint, int questionCount, long seed, List<MCQQuestion> questions) {
+        put(fingerprint, questionCount, seed, questions);
+        diskCache.put(nextKey(fingerprint, questionCount), ByteBuffer.allocate(Long.BYTES).putLong(seed).array());
+    }
+
+    /**
+     * The quiz with this seed has been started: it stays cached for retakes but is no longer the next one
+     */
+    public void taken(String fingerprint, int questionCount, long seed) {
+        Long next = nextSeed(fingerprint, questionCount);
+        if (next != null && next == seed) diskCache.remove(nextKey(fingerprint, questionCount));
+    }
+
+    /**
+     * Drop every cached quiz of a deck
+     */
+    public void invalidate(String uriString) {
+        if (uriString == null) return;
+        diskCache.removePrefix(DeckFingerprint.uriPrefix(uriString));
+    }
+
+    private static String key(String fingerprint, int questionCount, long seed) {
+        return fingerprint + "-" + questionCount + "-" + Long.toHexString(seed);
+    }
+
+    private static String nextKey(String fingerprint, int questionCount) {
+        return fingerprint + "-" + questionCount + "-next";
+    }
+
+    // Fingerprints are "<uri hash>-<version hash>"
+    private static String uriPrefix(String fingerprint) {
+        int dash = fingerprint.indexOf('-');
+        return dash < 0 ? fingerprint : fingerprint.substring(0, dash + 1);
+    }
+}
@@ -142,13 +142,16 @@ public class QuizFragment extends Fragment {
                 e.printStackTrace();
             }
 
-            PPTReader pptReader = new PPTReader(requireContext());
+            PPTIngestSession session = PPTIngestSession.open(requireContext(), uri, fileName);
 
-            if (pptReader.isValidPPT(uri)) {
+            if (session.validate()) {
                 // Save PPT info with URI
                 PPTInfo pptInfo = new PPTInfo(fileName, uri.toString());
                 storageManager.savePPTInfo(pptInfo);
 
+                // Parse once, QuizSetupActivity picks up the result
+                session.startParsing();
+
                 Toast.makeText(requireContext(), "✅ PPT uploaded: " + fileName, Toast.LENGTH_SHORT).show();
 
                 // Reload list
@@ -160,6 +163,7 @@ public class QuizFragment extends Fragment {
                 intent.putExtra("ppt_name", selectedPPTName);
                 startActivity(intent);
             } else {
+                PPTIngestSession.discard(session);
                 Toast.makeText(requireContext(), "❌ Invalid PPT file", Toast.LENGTH_SHORT).show();
             }
         } catch (Exception e) {
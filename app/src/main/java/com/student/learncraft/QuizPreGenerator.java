@@ -0,0 +1,167 @@
+package com.student.learncraft;
+
+import android.os.Process;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.FutureTask;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Builds a quiz for every offered question count while the setup screen is open,
+ * so Start usually finds its quiz ready. Runs on one background-priority thread, shared by the
+ * process, and is cancelled when the screen goes away; a quiz being built stops at its next question.
+ * Quizzes are stored as the next ones for their count; each is handed out once,
+ * and taking it starts building a new one for the following Start.
+ */
+public class QuizPreGenerator {
+
+    /**
+     * A quiz and the seed that reproduces it
+     */
+    public static class Quiz {
+        public final long seed;
+        public final List<MCQQuestion> questions;
+
+        Quiz(long seed, List<MCQQuestion> questions) {
+            this.seed = seed;
+            this.questions = questions;
+        }
+    }
+
+    // Pre-generation and the rebuilds after a quiz is taken, one at a time
+    private static final ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(() -> {
+        Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+        r.run();
+    }, "quiz-pregen"));
+    // Quizzes don't depend on the thread count, so one low-priority worker gives the same result
+    private static final ForkJoinPool pool = backgroundPool();
+
+    private final PPTContent content;
+    private final String fingerprint;
+    private final QuizCache quizCache;
+    // One generator so the deck is prepared once for all counts
+    private final MCQGenerator generator = new MCQGenerator();
+    private final Map<Integer, FutureTask<Quiz>> tasks = new LinkedHashMap<>();
+    private volatile boolean cancelled;
+
+    /**
+     * @param counts question counts to prepare, most likely first
+     */
+    public QuizPreGenerator(QuizCache quizCache, PPTContent content, String fingerprint, List<Integer> counts) {
+        this.quizCache = quizCache;
+        this.content = content;
+        this.fingerprint = fingerprint;
+
+        for (int count : counts) {
+            tasks.put(count, new FutureTask<>(() -> build(count)));
+        }
+    }
+
+    public void start() {
+        for (FutureTask<Quiz> task : tasks.values()) {
+            executor.execute(task);
+        }
+    }
+
+    /**
+     * True if the quiz for this count can be taken without waiting
+     */
+    public boolean isReady(int count) {
+        FutureTask<Quiz> task = tasks.get(count);
+        return task != null && task.isDone() && !task.isCancelled();
+    }
+
+    /**
+     * The quiz for this count; builds it on the calling thread if the background thread hasn't got to it.
+     * @return null if the count isn't offered or pre-generation was cancelled
+     */
+    public Quiz await(int count) throws Exception {
+        FutureTask<Quiz> task = tasks.get(count);
+        if (task == null) return null;
+
+        task.run();
+        try {
+            return task.get();
+        } catch (CancellationException e) {
+            return null;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            // Stopped between questions
+            if (cause instanceof CancellationException) return null;
+            throw cause instanceof Exception ? (Exception) cause : new Exception(cause);
+        }
+    }
+
+    public void cancel() {
+        cancelled = true;
+        for (FutureTask<Quiz> task : tasks.values()) {
+            task.cancel(false);
+        }
+    }
+
+    /**
+     * Marks the quiz as taken and builds a new one in the background, so the next Start gets new questions.
+     * Keeps running after the setup screen is gone.
+     */
+    public static void taken(QuizCache quizCache, PPTContent content, String fingerprint, int count, Quiz quiz) {
+        if (fingerprint == null) return;
+        executor.execute(() -> {
+            quizCache.taken(fingerprint, count, quiz.seed);
+            try {
+                generate(new MCQGenerator(), quizCache, content, fingerprint, count, () -> false);
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        });
+    }
+
+    private Quiz build(int count) {
+        synchronized (generator) {
+            return loadOrGenerate(generator, quizCache, content, fingerprint, count, () -> cancelled);
+        }
+    }
+
+    /**
+     * The cached quiz waiting to be taken for this deck version and count, or a freshly generated one
+     * @param fingerprint null for partially read decks, which are never cached
+     */
+    private static Quiz loadOrGenerate(MCQGenerator generator, QuizCache quizCache, PPTContent content,
+                                       String fingerprint, int count, BooleanSupplier cancelled) {
+        if (fingerprint != null) {
+            Long nextSeed = quizCache.nextSeed(fingerprint, count);
+            if (nextSeed != null) {
+                List<MCQQuestion> cached = quizCache.get(fingerprint, count, nextSeed);
+                if (cached != null) return new Quiz(nextSeed, cached);
+            }
+        }
+        return generate(generator, quizCache, content, fingerprint, count, cancelled);
+    }
+
+    private static Quiz generate(MCQGenerator generator, QuizCache quizCache, PPTContent content,
+                                 String fingerprint, int count, BooleanSupplier cancelled) {
+        // Sampled from the deck's feasible questions, so every pick yields one;
+        // built across the pool, and the seed alone decides the quiz
+        long seed = new Random().nextLong();
+        List<MCQQuestion> questions = generator.generateParallel(content, count, seed, pool, cancelled);
+        if (fingerprint != null && !questions.isEmpty()) {
+            quizCache.putNext(fingerprint, count, seed, questions);
+        }
+        return new Quiz(seed, questions);
+    }
+
+    private static ForkJoinPool backgroundPool() {
+        return new ForkJoinPool(1, p -> {
+            ForkJoinWorkerThread worker = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+            worker.setPriority(Thread.MIN_PRIORITY);
+            return worker;
+        }, null, false);
+    }
+}
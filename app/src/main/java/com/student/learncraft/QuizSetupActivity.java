@@ -1,26 +1,36 @@
 package com.student.learncraft;
 
-import android.app.ProgressDialog;
 import android.content.Intent;
 import android.net.Uri;
 import android.os.Bundle;
+import android.view.View;
 import android.widget.Button;
 import android.widget.RadioButton;
 import android.widget.RadioGroup;
 import android.widget.TextView;
 import android.widget.Toast;
 import androidx.appcompat.app.AppCompatActivity;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 public class QuizSetupActivity extends AppCompatActivity {
 
+    // Slides needed before a quiz can start on a partially parsed deck
+    private static final int MIN_SLIDES_TO_START = 5;
+    // Questions a streamed quiz keeps built ahead of the student
+    private static final int LOOK_AHEAD = 3;
+
     private TextView tvPPTName, tvInfo;
     private RadioGroup rgQuestionCount;
-    private Button btnStartQuiz;
+    private Button btnStartQuiz, btnPractice;
 
     private String pptName;
     private Uri pptUri;
     private PPTContent pptContent;
+    private PPTIngestSession ingestSession;
+    private QuizCache quizCache;
+    private QuizPreGenerator preGenerator;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -31,6 +41,7 @@ public class QuizSetupActivity extends AppCompatActivity {
         String uriString = getIntent().getStringExtra("ppt_uri");
         pptUri = Uri.parse(uriString);
         pptName = getIntent().getStringExtra("ppt_name");
+        quizCache = new QuizCache(this);
 
         // Initialize views
         initViews();
@@ -47,33 +58,55 @@ public class QuizSetupActivity extends AppCompatActivity {
 
         tvPPTName.setText(pptName);
 
+        btnPractice = findViewById(R.id.btnPractice);
+
         btnStartQuiz.setOnClickListener(v -> startQuiz());
+        btnPractice.setOnClickListener(v -> startPractice());
     }
 
     private void loadPPTContent() {
-        ProgressDialog progressDialog = new ProgressDialog(this);
-        progressDialog.setMessage("Reading PPT...");
-        progressDialog.setCancelable(false);
-        progressDialog.show();
+        // Reuse the parse started at upload time, if there is one
+        ingestSession = PPTIngestSession.take(this, pptUri, pptName);
+
+        // Slides show up as they are parsed, Start unlocks once there are enough
+        btnStartQuiz.setEnabled(false);
+        btnPractice.setEnabled(false);
+        ingestSession.setProgressListener((slidesRead, totalSlides, usableSlides) -> {
+            // Roughly one UI update per percent
+            int step = Math.max(1, totalSlides / 100);
+            if (slidesRead % step != 0 && slidesRead != totalSlides) return;
+
+            runOnUiThread(() -> {
+                if (pptContent != null) return;
+                tvInfo.setText(String.format("📊 Reading slides... %d / %d\n✅ %d slides ready",
+                        slidesRead, totalSlides, usableSlides));
+                if (usableSlides >= MIN_SLIDES_TO_START) {
+                    btnStartQuiz.setEnabled(true);
+                    btnPractice.setEnabled(true);
+                }
+            });
+        });
 
         // Load PPT in background
         new Thread(() -> {
             try {
-                PPTReader pptReader = new PPTReader(this);
-                pptContent = pptReader.readPPT(pptUri, pptName);
+                PPTContent content = ingestSession.awaitContent();
 
                 runOnUiThread(() -> {
-                    progressDialog.dismiss();
+                    pptContent = content;
+                    btnStartQuiz.setEnabled(true);
+                    btnPractice.setEnabled(true);
 
                     int slideCount = pptContent.getSlides().size();
                     tvInfo.setText(String.format("📊 %d slides loaded\n⏱️ Timer: 1 minute per question", slideCount));
 
+                    if (!isFinishing()) startPreGeneration();
+
                     Toast.makeText(this, "✅ PPT loaded successfully!", Toast.LENGTH_SHORT).show();
                 });
 
             } catch (Exception e) {
                 runOnUiThread(() -> {
-                    progressDialog.dismiss();
                     Toast.makeText(this, "❌ Error: " + e.getMessage(), Toast.LENGTH_LONG).show();
                     finish();
                 });
@@ -82,10 +115,14 @@ public class QuizSetupActivity extends AppCompatActivity {
     }
 
     private void startQuiz() {
-        if (pptContent == null) {
+        // Still parsing: generate from the slides that are ready
+        PPTContent content = quizContent();
+        if (content == null) {
             Toast.makeText(this, "⚠️ Please wait for PPT to load", Toast.LENGTH_SHORT).show();
             return;
         }
+        // Only quizzes from the fully read deck are cached
+        String fingerprint = pptContent != null ? ingestSession.getFingerprint() : null;
 
         // Get selected question count
         int selectedId = rgQuestionCount.getCheckedRadioButtonId();
@@ -95,69 +132,149 @@ public class QuizSetupActivity extends AppCompatActivity {
             return;
         }
 
-        RadioButton selectedRadio = findViewById(selectedId);
-        String text = selectedRadio.getText().toString();
-        int questionCount = Integer.parseInt(text.split(" ")[0]);
-
-        // Generate questions
-        ProgressDialog progressDialog = new ProgressDialog(this);
-        progressDialog.setMessage("Generating questions...");
-        progressDialog.setCancelable(false);
-        progressDialog.show();
+        int questionCount = countOf(findViewById(selectedId));
 
-        new Thread(() -> {
+        // Built in the background while the user was choosing
+        if (preGenerator != null && preGenerator.isReady(questionCount)) {
             try {
-                MCQGenerator generator = new MCQGenerator();
-                List<MCQQuestion> questions = generator.generateQuestions(pptContent, questionCount);
-
-                runOnUiThread(() -> {
-                    progressDialog.dismiss();
-
-                    if (questions == null || questions.isEmpty()) {
-                        Toast.makeText(this, "❌ Not enough content to generate questions. PPT needs more text content.", Toast.LENGTH_LONG).show();
-                        return;
-                    }
-
-                    // IMPORTANT: Validate all questions have options
-                    boolean validQuestions = true;
-                    for (MCQQuestion q : questions) {
-                        if (q.getOptions() == null || q.getOptions().size() < 4) {
-                            validQuestions = false;
-                            break;
-                        }
-                    }
-
-                    if (!validQuestions) {
-                        Toast.makeText(this, "❌ Error: Invalid questions generated. Please try with a different PPT.", Toast.LENGTH_LONG).show();
-                        return;
-                    }
-
-                    // Start quiz activity
-                    Intent intent = new Intent(this, QuizActivity.class);
-                    intent.putExtra("ppt_name", pptName);
-                    intent.putExtra("question_count", questions.size());
-                    intent.putExtra("time_minutes", questionCount); // 1 minute per question
-
-                    // Pass questions (we'll use a static holder for simplicity)
-                    QuizDataHolder.setQuestions(questions);
-
-                    startActivity(intent);
-                    finish();
-                });
-
+                QuizPreGenerator.Quiz quiz = preGenerator.await(questionCount);
+                if (quiz != null) {
+                    launchQuiz(quiz, questionCount, fingerprint);
+                    return;
+                }
             } catch (Exception e) {
                 e.printStackTrace();
-                runOnUiThread(() -> {
-                    progressDialog.dismiss();
-                    Toast.makeText(this, "❌ Error generating questions: " + e.getMessage(), Toast.LENGTH_LONG).show();
-                });
             }
-        }).start();
+        }
+
+        // Not ready yet: start on question 1 while the rest are built behind it
+        long seed = new Random().nextLong();
+        QuizDataHolder.setStream(new MCQGenerator().stream(content, questionCount, seed, LOOK_AHEAD));
+
+        Intent intent = new Intent(this, QuizActivity.class);
+        intent.putExtra("ppt_name", pptName);
+        intent.putExtra("question_count", questionCount);
+        intent.putExtra("time_minutes", questionCount); // 1 minute per question
+        // The seed decides the streamed questions, so the quiz can be cached and retaken
+        intent.putExtra("deck_fingerprint", fingerprint);
+        intent.putExtra("requested_count", questionCount);
+        intent.putExtra("quiz_seed", seed);
+        startActivity(intent);
+        finish();
+    }
+
+    /**
+     * Open-ended practice: questions keep coming until the student stops
+     */
+    private void startPractice() {
+        PPTContent content = quizContent();
+        if (content == null) {
+            Toast.makeText(this, "⚠️ Please wait for PPT to load", Toast.LENGTH_SHORT).show();
+            return;
+        }
+
+        QuizDataHolder.setStream(new MCQGenerator().stream(content, -1, new Random().nextLong(), LOOK_AHEAD));
+
+        Intent intent = new Intent(this, QuizActivity.class);
+        intent.putExtra("ppt_name", pptName);
+        intent.putExtra("practice_mode", true);
+        startActivity(intent);
+        finish();
+    }
+
+    /**
+     * The full deck, or the slides read so far if there are enough to start
+     */
+    private PPTContent quizContent() {
+        if (pptContent != null) return pptContent;
+        if (ingestSession != null && ingestSession.getUsableSlideCount() >= MIN_SLIDES_TO_START) {
+            return ingestSession.snapshot();
+        }
+        return null;
+    }
+
+    private void launchQuiz(QuizPreGenerator.Quiz quiz, int questionCount, String fingerprint) {
+        List<MCQQuestion> questions = quiz.questions;
+
+        if (questions == null || questions.isEmpty()) {
+            Toast.makeText(this, "❌ Not enough content to generate questions. PPT needs more text content.", Toast.LENGTH_LONG).show();
+            return;
+        }
+
+        // IMPORTANT: Validate all questions have options
+        boolean validQuestions = true;
+        for (MCQQuestion q : questions) {
+            if (q.getOptions() == null || q.getOptions().size() < 4) {
+                validQuestions = false;
+                break;
+            }
+        }
+
+        if (!validQuestions) {
+            Toast.makeText(this, "❌ Error: Invalid questions generated. Please try with a different PPT.", Toast.LENGTH_LONG).show();
+            return;
+        }
+
+        // Start quiz activity
+        Intent intent = new Intent(this, QuizActivity.class);
+        intent.putExtra("ppt_name", pptName);
+        intent.putExtra("question_count", questions.size());
+        intent.putExtra("time_minutes", questionCount); // 1 minute per question
+        // Lets a retake reload this exact quiz from the cache
+        intent.putExtra("deck_fingerprint", fingerprint);
+        intent.putExtra("requested_count", questionCount);
+        intent.putExtra("quiz_seed", quiz.seed);
+
+        // Pass questions (we'll use a static holder for simplicity)
+        QuizDataHolder.setQuestions(questions);
+
+        // This one is used up; the next Start for this count gets a new quiz
+        QuizPreGenerator.taken(quizCache, pptContent, fingerprint, questionCount, quiz);
+
+        startActivity(intent);
+        finish();
+    }
+
+    /**
+     * Starts building quizzes for every offered count, the selected one first
+     */
+    private void startPreGeneration() {
+        List<Integer> counts = new ArrayList<>();
+        int selectedId = rgQuestionCount.getCheckedRadioButtonId();
+        if (selectedId != -1) counts.add(countOf(findViewById(selectedId)));
+        for (int i = 0; i < rgQuestionCount.getChildCount(); i++) {
+            View child = rgQuestionCount.getChildAt(i);
+            if (child instanceof RadioButton) {
+                int count = countOf((RadioButton) child);
+                if (!counts.contains(count)) counts.add(count);
+            }
+        }
+
+        preGenerator = new QuizPreGenerator(quizCache, pptContent, ingestSession.getFingerprint(), counts);
+        preGenerator.start();
+    }
+
+    // "20 Questions   •   20 mins" -> 20
+    private static int countOf(RadioButton radio) {
+        String text = radio.getText().toString();
+        return Integer.parseInt(text.split(" ")[0]);
+    }
+
+    @Override
+    protected void onDestroy() {
+        super.onDestroy();
+        if (ingestSession != null) {
+            ingestSession.setProgressListener(null);
+        }
+        if (preGenerator != null) {
+            preGenerator.cancel();
+        }
     }
 
     // Static holder for passing data between activities
     public static class QuizDataHolder {
         private static List<MCQQuestion> questions;
+        private static QuestionStream stream;
 
         public static void setQuestions(List<MCQQuestion> q) {
             questions = q;
@@ -167,8 +284,26 @@ public class QuizSetupActivity extends AppCompatActivity {
             return questions;
         }
 
+        /**
+         * Hands QuizActivity a quiz that is still being generated
+         */
+        public static void setStream(QuestionStream s) {
+            stream = s;
+        }
+
+        /**
+         * The pending stream, if any; only the first caller gets it
+         */
+        public static QuestionStream takeStream() {
+            QuestionStream s = stream;
+            stream = null;
+            return s;
+        }
+
         public static void clear() {
             questions = null;
+            if (stream != null) stream.close();
+            stream = null;
         }
     }
 }
\ No newline at end of file
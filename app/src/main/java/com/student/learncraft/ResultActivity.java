@@ -6,6 +6,7 @@ import android.widget.Button;
 import android.widget.TextView;
 import android.widget.Toast;
 import androidx.appcompat.app.AppCompatActivity;
+import java.util.List;
 
 public class ResultActivity extends AppCompatActivity {
 
@@ -133,7 +134,31 @@ public class ResultActivity extends AppCompatActivity {
         finish();
     }
 
+    /**
+     * Restarts the same quiz: from the quiz cache if it was stored, else the questions still in memory
+     */
     private void retakeQuiz() {
+        List<MCQQuestion> questions = null;
+        String fingerprint = getIntent().getStringExtra("deck_fingerprint");
+        if (fingerprint != null) {
+            questions = new QuizCache(this).get(fingerprint,
+                    getIntent().getIntExtra("requested_count", 0),
+                    getIntent().getLongExtra("quiz_seed", 0));
+        }
+        if (questions == null) {
+            questions = QuizSetupActivity.QuizDataHolder.getQuestions();
+        }
+        if (questions == null || questions.isEmpty()) {
+            finish();
+            return;
+        }
+
+        QuizSetupActivity.QuizDataHolder.setQuestions(questions);
+
+        Intent intent = new Intent(this, QuizActivity.class);
+        intent.putExtras(getIntent());
+        intent.putExtra("question_count", questions.size());
+        startActivity(intent);
         finish();
     }
 
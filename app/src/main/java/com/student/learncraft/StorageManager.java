@@ -7,6 +7,8 @@ import com.google.gson.reflect.TypeToken;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class StorageManager {
 
@@ -15,10 +17,20 @@ public class StorageManager {
     private static final String KEY_PPT_LIST = "ppt_list";
     private static final String KEY_PPT_INFO_LIST = "ppt_info_list";
 
+    // Replaced decks' cached copies are dropped off the UI thread, one at a time
+    private static final ExecutorService invalidator = Executors.newSingleThreadExecutor(
+            r -> new Thread(r, "cache-invalidate"));
+    // Opened on first use and shared by the process; only touched on the invalidator thread
+    private static DeckCache deckCache;
+    private static DeckFileStore deckFileStore;
+    private static QuizCache quizCache;
+
+    private Context context;
     private SharedPreferences preferences;
     private Gson gson;
 
     public StorageManager(Context context) {
+        this.context = context.getApplicationContext();
         this.preferences = context.getSharedPreferences(PREF_NAME, Context.MODE_PRIVATE);
         this.gson = new Gson();
     }
@@ -127,7 +139,12 @@ public class StorageManager {
     public void savePPTInfo(PPTInfo pptInfo) {
         List<PPTInfo> pptList = getAllPPTInfo();
 
-        // Remove old entry with same filename
+        // Remove old entry with same filename, and its cached copies
+        for (PPTInfo info : pptList) {
+            if (info.getFileName().equals(pptInfo.getFileName())) {
+                invalidateCaches(info.getUriString());
+            }
+        }
         pptList.removeIf(info -> info.getFileName().equals(pptInfo.getFileName()));
 
         pptList.add(pptInfo);
@@ -138,6 +155,24 @@ public class StorageManager {
         savePPTName(pptInfo.getFileName());
     }
 
+    private void invalidateCaches(String uriString) {
+        Context appContext = context;
+        invalidator.execute(() -> {
+            try {
+                if (deckCache == null) {
+                    deckCache = new DeckCache(appContext);
+                    deckFileStore = new DeckFileStore(appContext);
+                    quizCache = new QuizCache(appContext);
+                }
+                deckCache.invalidate(uriString);
+                deckFileStore.invalidate(uriString);
+                quizCache.invalidate(uriString);
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        });
+    }
+
     /**
      * Get all PPT info (with URIs)
      */
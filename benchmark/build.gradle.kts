@@ -0,0 +1,34 @@
+plugins {
+    id("java")
+    alias(libs.plugins.jmh)
+}
+
+// Desktop JVM benchmarks for ingestion and question generation.
+// Run with: ./gradlew :benchmark:jmh  (results in build/results/jmh)
+java {
+    sourceCompatibility = JavaVersion.VERSION_11
+    targetCompatibility = JavaVersion.VERSION_11
+}
+
+dependencies {
+    jmh(project(":core"))
+    jmh(testFixtures(project(":core")))
+
+    // XmlPullParser implementation for the plain JVM
+    jmhRuntimeOnly("net.sf.kxml:kxml2:2.3.0")
+}
+
+jmh {
+    jmhVersion.set("1.37")
+    benchmarkMode.set(listOf("thrpt", "avgt"))
+    timeUnit.set("ms")
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    // Allocation rate per operation
+    profilers.set(listOf("gc"))
+    resultFormat.set("JSON")
+
+    // Narrow a run, e.g. -Pjmh.includes=QuestionGeneration
+    (project.findProperty("jmh.includes") as String?)?.let { includes.set(listOf(it)) }
+}
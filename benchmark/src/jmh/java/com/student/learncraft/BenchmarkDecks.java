@@ -0,0 +1,35 @@
+package com.student.learncraft;
+
+/**
+ * Content mixes used across the benchmarks, on top of the seeded DeckGenerator.
+ * Same mix, size and seed always give the same deck.
+ */
+public class BenchmarkDecks {
+
+    public enum Mix {
+        MIXED,
+        ACRONYM_HEAVY,
+        DEFINITION_HEAVY,
+        BULLET_ONLY
+    }
+
+    public static final long SEED = 42L;
+
+    public static DeckGenerator generator(int slides, Mix mix) {
+        DeckGenerator generator = new DeckGenerator().seed(SEED).slides(slides);
+        switch (mix) {
+            case ACRONYM_HEAVY:
+                return generator.acronymShare(0.6).definitionShare(0.1).comparisonShare(0.05);
+            case DEFINITION_HEAVY:
+                return generator.acronymShare(0.05).definitionShare(0.6).comparisonShare(0.1);
+            case BULLET_ONLY:
+                return generator.acronymShare(0).definitionShare(0).comparisonShare(0);
+            default:
+                return generator.acronymShare(0.2).definitionShare(0.25).comparisonShare(0.15);
+        }
+    }
+
+    public static PPTContent deck(int slides, Mix mix) {
+        return generator(slides, mix).content();
+    }
+}
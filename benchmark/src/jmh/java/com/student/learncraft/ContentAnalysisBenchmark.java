@@ -0,0 +1,54 @@
+package com.student.learncraft;
+
+import org.openjdk.jmh.annotations.*;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ContentAnalyzer.analyzeContent over a deck's full text
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ContentAnalysisBenchmark {
+
+    @Param({"10", "100", "500", "2000"})
+    public int slides;
+
+    @Param({"MIXED", "ACRONYM_HEAVY", "DEFINITION_HEAVY", "BULLET_ONLY"})
+    public BenchmarkDecks.Mix mix;
+
+    private List<String> text;
+    private ContentAnalyzer analyzer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        text = BenchmarkDecks.deck(slides, mix).getAllTextContent();
+        analyzer = new ContentAnalyzer();
+    }
+
+    @Benchmark
+    public List<ContentAnalyzer.AnalyzedContent> analyzeContent() {
+        return analyzer.analyzeContent(text);
+    }
+
+    /**
+     * Batches on the common fork-join pool; decks under the threshold stay sequential
+     */
+    @Benchmark
+    public List<ContentAnalyzer.AnalyzedContent> analyzeContentParallel() {
+        return analyzer.analyzeContentParallel(text);
+    }
+
+    /**
+     * Keyword classification alone, without keyword extraction
+     */
+    @Benchmark
+    public int classify() {
+        int found = 0;
+        for (String sentence : text) {
+            found += ContentAnalyzer.classify(sentence);
+        }
+        return found;
+    }
+}
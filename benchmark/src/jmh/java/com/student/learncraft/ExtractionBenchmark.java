@@ -0,0 +1,67 @@
+package com.student.learncraft;
+
+import org.openjdk.jmh.annotations.*;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PPTX text extraction: streaming, parallel random access and the POI fallback
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ExtractionBenchmark {
+
+    @Param({"10", "100", "500", "2000"})
+    public int slides;
+
+    @Param({"MIXED", "BULLET_ONLY"})
+    public BenchmarkDecks.Mix mix;
+
+    // Embedded media in the package; text-only readers should not slow down with it
+    @Param({"0", "67108864"})
+    public long mediaBytes;
+
+    private byte[] pptx;
+    private Path file;
+    private FileChannel channel;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        pptx = BenchmarkDecks.generator(slides, mix).media(Math.min(slides, 32), mediaBytes).toBytes();
+        file = Files.createTempFile("bench", ".pptx");
+        Files.write(file, pptx);
+        channel = FileChannel.open(file, StandardOpenOption.READ);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        channel.close();
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public PPTContent stream() throws IOException {
+        return new PPTTextExtractor().read(new ByteArrayInputStream(pptx), "bench.pptx");
+    }
+
+    @Benchmark
+    public PPTContent streamParallel() throws IOException {
+        return new PPTStreamReader().readParallel(new ByteArrayInputStream(pptx), "bench.pptx");
+    }
+
+    @Benchmark
+    public PPTContent randomAccessParallel() throws IOException {
+        return new PPTTextExtractor().read(channel, "bench.pptx", null);
+    }
+
+    @Benchmark
+    public PPTContent poi() throws IOException {
+        return new PPTTextExtractor().readWithPOI(file, "bench.pptx");
+    }
+}
@@ -0,0 +1,52 @@
+package com.student.learncraft;
+
+import org.openjdk.jmh.annotations.*;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MCQGenerator retry loop and candidate pool across deck sizes, question counts and content mixes
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class QuestionGenerationBenchmark {
+
+    @Param({"10", "100", "500", "2000"})
+    public int slides;
+
+    @Param({"10", "50"})
+    public int questionCount;
+
+    @Param({"MIXED", "ACRONYM_HEAVY", "DEFINITION_HEAVY", "BULLET_ONLY"})
+    public BenchmarkDecks.Mix mix;
+
+    private PPTContent deck;
+    private MCQGenerator generator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        deck = BenchmarkDecks.deck(slides, mix);
+    }
+
+    @Setup(Level.Iteration)
+    public void newGenerator() {
+        // Fresh seeded generator so every iteration walks the same random sequence
+        generator = new MCQGenerator(BenchmarkDecks.SEED);
+    }
+
+    @Benchmark
+    public List<MCQQuestion> generateQuestions() {
+        return generator.generateQuestions(deck, questionCount);
+    }
+
+    @Benchmark
+    public List<MCQQuestion> generateFromPool() {
+        return generator.generateFromPool(deck, questionCount);
+    }
+
+    @Benchmark
+    public List<MCQQuestion> generateParallel() {
+        return generator.generateParallel(deck, questionCount, BenchmarkDecks.SEED);
+    }
+}
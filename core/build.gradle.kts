@@ -0,0 +1,29 @@
+plugins {
+    id("java-library")
+    // DeckGenerator: synthetic PPTX decks shared by tests and :benchmark
+    id("java-test-fixtures")
+}
+
+// Plain JVM library: deck parsing and question generation, no Android APIs
+java {
+    sourceCompatibility = JavaVersion.VERSION_11
+    targetCompatibility = JavaVersion.VERSION_11
+}
+
+dependencies {
+    // Apache POI (fallback PPTX reading)
+    implementation("org.apache.poi:poi:5.2.3")
+    implementation("org.apache.poi:poi-ooxml:5.2.3")
+
+    // Required by POI
+    implementation("org.apache.xmlbeans:xmlbeans:5.1.1")
+    implementation("org.apache.commons:commons-compress:1.21")
+    implementation("commons-io:commons-io:2.11.0")
+
+    // XmlPullParser ships with Android; on a plain JVM kxml2 provides it
+    compileOnly("net.sf.kxml:kxml2:2.3.0")
+
+    // Testing
+    testImplementation("junit:junit:4.13.2")
+    testRuntimeOnly("net.sf.kxml:kxml2:2.3.0")
+}
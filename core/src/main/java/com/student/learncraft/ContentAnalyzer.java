@@ -0,0 +1,274 @@
+package com.student.learncraft;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Classifies sentences and extracts their keywords.
+ * An instance reuses one tokenizer buffer, so it is not thread safe: give each thread its own,
+ * or use analyzeContentParallel, which does that for its batches. The static parts are shared freely.
+ */
+public class ContentAnalyzer {
+
+    // Keywords that indicate definitions
+    private static final String[] DEFINITION_KEYWORDS = {
+            "is a", "is an", "are", "means", "refers to", "defined as",
+            "is the", "represents", "stands for", "known as"
+    };
+
+    // Keywords that indicate comparisons
+    private static final String[] COMPARISON_KEYWORDS = {
+            "difference between", "compared to", "versus", "vs", "while",
+            "whereas", "unlike", "similar to", "different from"
+    };
+
+    // Keywords for important terms
+    private static final String[] IMPORTANT_KEYWORDS = {
+            "important", "key", "main", "primary", "essential", "fundamental",
+            "critical", "significant", "major", "basic"
+    };
+
+    private static final int DEFINITION = 1;
+    private static final int COMPARISON = 1 << 1;
+    private static final int IMPORTANT = 1 << 2;
+
+    // All three lists in one automaton, so a sentence is classified in a single pass
+    private static final KeywordMatcher MATCHER =
+            new KeywordMatcher(DEFINITION_KEYWORDS, COMPARISON_KEYWORDS, IMPORTANT_KEYWORDS);
+
+    // Below this many sentences, splitting the work costs more than it saves
+    private static final int PARALLEL_THRESHOLD = 2048;
+    private static final int BATCH_SIZE = 512;
+
+    // Reused for every sentence, so one analyzer mustn't be shared between threads
+    private final KeywordTokenizer tokenizer = new KeywordTokenizer();
+
+    /**
+     * Analyzes content and classifies each sentence
+     */
+    public static class AnalyzedContent {
+        public String text;
+        public ContentType type;
+        // Read lazily from the text; changing the list first copies it, as with an ArrayList
+        public List<String> keywords;
+        public int importance; // 1-5
+
+        public AnalyzedContent(String text, ContentType type) {
+            this(text, type, new ArrayList<>());
+        }
+
+        AnalyzedContent(String text, ContentType type, List<String> keywords) {
+            this.text = text;
+            this.type = type;
+            this.keywords = keywords;
+            this.importance = 3; // default
+        }
+    }
+
+    public enum ContentType {
+        DEFINITION,
+        FACT,
+        COMPARISON,
+        LIST_ITEM,
+        GENERAL
+    }
+
+    /**
+     * Analyzes all text content from PPT
+     */
+    public List<AnalyzedContent> analyzeContent(List<String> textContent) {
+        List<AnalyzedContent> analyzed = new ArrayList<>();
+
+        for (String text : textContent) {
+            if (text == null || text.trim().isEmpty()) continue;
+
+            AnalyzedContent content = analyzeText(text, tokenizer);
+            analyzed.add(content);
+        }
+
+        return analyzed;
+    }
+
+    /**
+     * Same results as analyzeContent, with large inputs split into batches on the common fork-join pool
+     */
+    public List<AnalyzedContent> analyzeContentParallel(List<String> textContent) {
+        return analyzeContentParallel(textContent, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Same results as analyzeContent, in input order, with large inputs split into batches on the given pool.
+     * Small inputs stay on the calling thread.
+     */
+    public List<AnalyzedContent> analyzeContentParallel(List<String> textContent, ForkJoinPool pool) {
+        if (textContent.size() < PARALLEL_THRESHOLD) return analyzeContent(textContent);
+
+        AnalyzedContent[] results = analyzeAll(textContent.toArray(new String[0]), pool);
+        List<AnalyzedContent> analyzed = new ArrayList<>(results.length);
+        for (AnalyzedContent content : results) {
+            if (content != null) analyzed.add(content);
+        }
+        return analyzed;
+    }
+
+    // One result slot per text, null for blank ones; batched on the pool once there are enough texts
+    private AnalyzedContent[] analyzeAll(String[] texts, ForkJoinPool pool) {
+        AnalyzedContent[] results = new AnalyzedContent[texts.length];
+        if (texts.length < PARALLEL_THRESHOLD) {
+            for (int i = 0; i < texts.length; i++) {
+                String text = texts[i];
+                if (text != null && !text.trim().isEmpty()) results[i] = analyzeText(text, tokenizer);
+            }
+        } else {
+            // Each batch writes its own slots, so order is kept without merging
+            pool.invoke(new AnalyzeBatch(texts, results, 0, texts.length));
+        }
+        return results;
+    }
+
+    /**
+     * Halves its range until it is one batch, then analyzes that with its own tokenizer
+     */
+    private static class AnalyzeBatch extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final String[] texts;
+        private final AnalyzedContent[] results;
+        private final int start;
+        private final int end;
+
+        AnalyzeBatch(String[] texts, AnalyzedContent[] results, int start, int end) {
+            this.texts = texts;
+            this.results = results;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= BATCH_SIZE) {
+                KeywordTokenizer tokenizer = new KeywordTokenizer();
+                for (int i = start; i < end; i++) {
+                    String text = texts[i];
+                    if (text == null || text.trim().isEmpty()) continue;
+                    results[i] = analyzeText(text, tokenizer);
+                }
+                return;
+            }
+            int middle = (start + end) >>> 1;
+            invokeAll(new AnalyzeBatch(texts, results, start, middle),
+                    new AnalyzeBatch(texts, results, middle, end));
+        }
+    }
+
+    /**
+     * Analyzes every content point of every slide, for attaching to the deck with PPTContent.setAnalysis.
+     * Large decks are split into batches on the common fork-join pool.
+     */
+    public DeckAnalysis analyzeDeck(PPTContent deck) {
+        return analyzeDeck(deck, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Same analysis, with the batches of a large deck on the given pool
+     */
+    public DeckAnalysis analyzeDeck(PPTContent deck, ForkJoinPool pool) {
+        List<PPTContent.SlideContent> slides = new ArrayList<>(deck.getSlides());
+        // Every content point of the deck in one array, so batches can span slides
+        List<String> points = new ArrayList<>();
+        int[] counts = new int[slides.size()];
+        for (int i = 0; i < slides.size(); i++) {
+            int before = points.size();
+            points.addAll(slides.get(i).getContentPoints());
+            counts[i] = points.size() - before;
+        }
+        AnalyzedContent[] analyzed = analyzeAll(points.toArray(new String[0]), pool);
+
+        List<List<AnalyzedContent>> results = new ArrayList<>(slides.size());
+        int next = 0;
+        for (int count : counts) {
+            results.add(new ArrayList<>(Arrays.asList(analyzed).subList(next, next + count)));
+            next += count;
+        }
+
+        return new DeckAnalysis(slides, results);
+    }
+
+    /**
+     * Analyzes a single text and determines its type
+     */
+    private static AnalyzedContent analyzeText(String text, KeywordTokenizer tokenizer) {
+        int found = classify(text);
+
+        // Check for definitions
+        if ((found & DEFINITION) != 0) {
+            return analyzed(text, ContentType.DEFINITION, 5, tokenizer); // Definitions are very important
+        }
+
+        // Check for comparisons
+        if ((found & COMPARISON) != 0) {
+            return analyzed(text, ContentType.COMPARISON, 4, tokenizer);
+        }
+
+        // Check if it's a list item (short statement)
+        if (text.length() < 100 && !text.contains(".")) {
+            return analyzed(text, ContentType.LIST_ITEM, 3, tokenizer);
+        }
+
+        // Check for important facts
+        if ((found & IMPORTANT) != 0) {
+            return analyzed(text, ContentType.FACT, 4, tokenizer);
+        }
+
+        // Default to general fact
+        return analyzed(text, ContentType.FACT, 3, tokenizer);
+    }
+
+    private static AnalyzedContent analyzed(String text, ContentType type, int importance, KeywordTokenizer tokenizer) {
+        AnalyzedContent content = new AnalyzedContent(text, type, extractKeywords(text, tokenizer));
+        content.importance = importance;
+        return content;
+    }
+
+    /**
+     * Which keyword lists occur in the text as whole words, as DEFINITION | COMPARISON | IMPORTANT bits
+     */
+    static int classify(String text) {
+        return MATCHER.match(text);
+    }
+
+    /**
+     * Extracts important keywords from text: words over three letters that aren't stop words,
+     * lowercased and without punctuation. Kept as spans of the text until read.
+     */
+    private static List<String> extractKeywords(String text, KeywordTokenizer tokenizer) {
+        return tokenizer.tokenize(text);
+    }
+
+    /**
+     * Gets content by type
+     */
+    public List<AnalyzedContent> getContentByType(List<AnalyzedContent> analyzed, ContentType type) {
+        List<AnalyzedContent> filtered = new ArrayList<>();
+        for (AnalyzedContent content : analyzed) {
+            if (content.type == type) {
+                filtered.add(content);
+            }
+        }
+        return filtered;
+    }
+
+    /**
+     * Gets high importance content
+     */
+    public List<AnalyzedContent> getImportantContent(List<AnalyzedContent> analyzed) {
+        List<AnalyzedContent> important = new ArrayList<>();
+        for (AnalyzedContent content : analyzed) {
+            if (content.importance >= 4) {
+                important.add(content);
+            }
+        }
+        return important;
+    }
+}
\ No newline at end of file
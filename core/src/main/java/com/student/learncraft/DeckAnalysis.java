@@ -0,0 +1,48 @@
+package com.student.learncraft;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * ContentAnalyzer's results for a whole deck, one entry per content point of each slide.
+ * Worked out once when the deck is loaded and kept on the PPTContent, so question
+ * generation reads sentence types and importance instead of classifying again.
+ */
+public class DeckAnalysis {
+
+    private final List<PPTContent.SlideContent> slides;
+    private final List<List<ContentAnalyzer.AnalyzedContent>> results;
+
+    DeckAnalysis(List<PPTContent.SlideContent> slides, List<List<ContentAnalyzer.AnalyzedContent>> results) {
+        this.slides = Collections.unmodifiableList(new ArrayList<>(slides));
+        this.results = Collections.unmodifiableList(results);
+    }
+
+    public int getSlideCount() {
+        return slides.size();
+    }
+
+    /**
+     * Results for the slide at this position, aligned with its content points (null for blank ones).
+     * @return null if that slide wasn't analyzed or has changed since
+     */
+    public List<ContentAnalyzer.AnalyzedContent> forSlide(int index, PPTContent.SlideContent slide) {
+        if (index < 0 || index >= slides.size() || slides.get(index) != slide) return null;
+        List<ContentAnalyzer.AnalyzedContent> analyzed = results.get(index);
+        return analyzed.size() == slide.getContentPoints().size() ? analyzed : null;
+    }
+
+    /**
+     * Every analyzed content point in deck order, blank ones skipped
+     */
+    public List<ContentAnalyzer.AnalyzedContent> getAll() {
+        List<ContentAnalyzer.AnalyzedContent> all = new ArrayList<>();
+        for (List<ContentAnalyzer.AnalyzedContent> slide : results) {
+            for (ContentAnalyzer.AnalyzedContent content : slide) {
+                if (content != null) all.add(content);
+            }
+        }
+        return all;
+    }
+}
@@ -0,0 +1,369 @@
+package com.student.learncraft;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary format for parsed decks and generated questions.
+ *
+ * Layout: "LCDK", version byte, record kind byte, payload, then optional
+ * tagged sections (tag, length, bytes) ending with tag 0. Readers skip tags
+ * they don't know, so new data can be added without breaking old files.
+ *
+ * Decks may carry a TermStats section, which older readers skip.
+ *
+ * Strings are written once: the first occurrence is inlined and every later
+ * occurrence is a varint index, so repeated titles and options cost 1-2 bytes.
+ * Encoding and decoding are single pass over the stream.
+ */
+public class DeckCodec {
+
+    public static final int VERSION = 1;
+
+    private static final byte[] MAGIC = {'L', 'C', 'D', 'K'};
+    private static final int KIND_DECK = 1;
+    private static final int KIND_QUESTIONS = 2;
+    private static final int END_OF_SECTIONS = 0;
+    private static final int SECTION_TERM_STATS = 1;
+
+    // String references: 0 = null, 1 = new string follows, n >= 2 = table index n - 2
+    private static final int REF_NULL = 0;
+    private static final int REF_NEW = 1;
+
+    /* ================= DECKS ================= */
+
+    public static byte[] encodeDeck(PPTContent content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeDeck(content, out);
+        return out.toByteArray();
+    }
+
+    public static PPTContent decodeDeck(byte[] data) throws IOException {
+        return readDeck(new ByteArrayInputStream(data));
+    }
+
+    public static void writeDeck(PPTContent content, OutputStream outputStream) throws IOException {
+        Writer writer = new Writer(outputStream, KIND_DECK);
+
+        writer.string(content.getFileName());
+        List<PPTContent.SlideContent> slides = content.getSlides();
+        writer.varInt(slides.size());
+        for (PPTContent.SlideContent slide : slides) {
+            writer.string(slide.getTitle());
+            List<String> points = slide.getContentPoints();
+            writer.varInt(points.size());
+            for (String point : points) {
+                writer.string(point);
+            }
+        }
+
+        TermStats termStats = content.getTermStats();
+        if (termStats != null && termStats.matches(slides)) {
+            writer.section(SECTION_TERM_STATS, encodeTermStats(termStats, slides));
+        }
+
+        writer.finish();
+    }
+
+    public static PPTContent readDeck(InputStream inputStream) throws IOException {
+        Reader reader = new Reader(inputStream, KIND_DECK);
+
+        PPTContent content = new PPTContent(reader.string());
+        int slideCount = reader.varInt();
+        List<PPTContent.SlideContent> slides = new ArrayList<>(slideCount);
+        for (int i = 0; i < slideCount; i++) {
+            PPTContent.SlideContent slide = new PPTContent.SlideContent();
+            slide.setTitle(reader.string());
+            int pointCount = reader.varInt();
+            List<String> points = new ArrayList<>(pointCount);
+            for (int j = 0; j < pointCount; j++) {
+                points.add(reader.string());
+            }
+            slide.setContentPoints(points);
+            slides.add(slide);
+        }
+        content.setSlides(slides);
+
+        int tag;
+        while ((tag = reader.sectionTag()) != END_OF_SECTIONS) {
+            if (tag == SECTION_TERM_STATS) {
+                content.setTermStats(decodeTermStats(reader.section(), slides));
+            } else {
+                reader.skipSection(tag);
+            }
+        }
+        return content;
+    }
+
+    /**
+     * Terms with their document frequency, then each content point's (term ID, count) pairs
+     */
+    private static byte[] encodeTermStats(TermStats stats, List<PPTContent.SlideContent> slides) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+
+        int termCount = stats.getTermCount();
+        writeVarInt(out, termCount);
+        for (int id = 0; id < termCount; id++) {
+            byte[] term = stats.term(id).getBytes(StandardCharsets.UTF_8);
+            writeVarInt(out, term.length);
+            out.write(term);
+            writeVarInt(out, stats.documentFrequency(id));
+        }
+
+        for (int s = 0; s < slides.size(); s++) {
+            int points = slides.get(s).getContentPoints().size();
+            for (int p = 0; p < points; p++) {
+                int[] vector = stats.vector(s, p);
+                writeVarInt(out, vector.length / 2);
+                for (int value : vector) {
+                    writeVarInt(out, value);
+                }
+            }
+        }
+
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static TermStats decodeTermStats(byte[] data, List<PPTContent.SlideContent> slides) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+
+        int termCount = readVarInt(in);
+        String[] terms = new String[termCount];
+        int[] documentFrequency = new int[termCount];
+        for (int id = 0; id < termCount; id++) {
+            byte[] term = new byte[readVarInt(in)];
+            in.readFully(term);
+            terms[id] = new String(term, StandardCharsets.UTF_8);
+            documentFrequency[id] = readVarInt(in);
+        }
+
+        List<int[][]> vectors = new ArrayList<>(slides.size());
+        for (PPTContent.SlideContent slide : slides) {
+            int[][] slideVectors = new int[slide.getContentPoints().size()][];
+            for (int p = 0; p < slideVectors.length; p++) {
+                int[] vector = new int[readVarInt(in) * 2];
+                for (int i = 0; i < vector.length; i++) {
+                    vector[i] = readVarInt(in);
+                    if (i % 2 == 0 && vector[i] >= termCount) throw new IOException("Bad term reference " + vector[i]);
+                }
+                slideVectors[p] = vector;
+            }
+            vectors.add(slideVectors);
+        }
+        if (in.available() > 0) throw new IOException("Term stats don't match the deck");
+
+        return TermStats.restore(slides, terms, documentFrequency, vectors);
+    }
+
+    /* ================= QUESTIONS ================= */
+
+    public static byte[] encodeQuestions(List<MCQQuestion> questions) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeQuestions(questions, out);
+        return out.toByteArray();
+    }
+
+    public static List<MCQQuestion> decodeQuestions(byte[] data) throws IOException {
+        return readQuestions(new ByteArrayInputStream(data));
+    }
+
+    public static void writeQuestions(List<MCQQuestion> questions, OutputStream outputStream) throws IOException {
+        Writer writer = new Writer(outputStream, KIND_QUESTIONS);
+
+        writer.varInt(questions.size());
+        for (MCQQuestion q : questions) {
+            writer.string(q.getQuestion());
+            List<String> options = q.getOptions();
+            if (options == null) {
+                writer.varInt(0);
+            } else {
+                writer.varInt(options.size() + 1);
+                for (String option : options) {
+                    writer.string(option);
+                }
+            }
+            writer.varInt(q.getCorrectAnswerIndex() + 1);
+            writer.string(q.getExplanation());
+            writer.string(q.getType() != null ? q.getType().name() : null);
+            writer.string(q.getDifficulty());
+        }
+
+        writer.finish();
+    }
+
+    public static List<MCQQuestion> readQuestions(InputStream inputStream) throws IOException {
+        Reader reader = new Reader(inputStream, KIND_QUESTIONS);
+
+        int count = reader.varInt();
+        List<MCQQuestion> questions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            MCQQuestion q = new MCQQuestion();
+            q.setQuestion(reader.string());
+            int optionCount = reader.varInt() - 1;
+            if (optionCount >= 0) {
+                List<String> options = new ArrayList<>(optionCount);
+                for (int j = 0; j < optionCount; j++) {
+                    options.add(reader.string());
+                }
+                q.setOptions(options);
+            }
+            q.setCorrectAnswerIndex(reader.varInt() - 1);
+            q.setExplanation(reader.string());
+            String type = reader.string();
+            if (type != null) {
+                try {
+                    q.setType(MCQQuestion.QuestionType.valueOf(type));
+                } catch (IllegalArgumentException e) {
+                    q.setType(MCQQuestion.QuestionType.FACT);
+                }
+            }
+            q.setDifficulty(reader.string());
+            questions.add(q);
+        }
+
+        reader.skipSections();
+        return questions;
+    }
+
+    /* ================= LOW LEVEL ================= */
+
+    static class Writer {
+        private final DataOutputStream out;
+        private final Map<String, Integer> table = new HashMap<>();
+
+        Writer(OutputStream outputStream, int kind) throws IOException {
+            this.out = new DataOutputStream(new BufferedOutputStream(outputStream));
+            out.write(MAGIC);
+            out.writeByte(VERSION);
+            out.writeByte(kind);
+        }
+
+        void varInt(int value) throws IOException {
+            writeVarInt(out, value);
+        }
+
+        void string(String value) throws IOException {
+            if (value == null) {
+                varInt(REF_NULL);
+                return;
+            }
+            Integer index = table.get(value);
+            if (index != null) {
+                varInt(index + 2);
+                return;
+            }
+            table.put(value, table.size());
+            varInt(REF_NEW);
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            varInt(bytes.length);
+            out.write(bytes);
+        }
+
+        void section(int tag, byte[] payload) throws IOException {
+            varInt(tag);
+            varInt(payload.length);
+            out.write(payload);
+        }
+
+        void finish() throws IOException {
+            varInt(END_OF_SECTIONS);
+            out.flush();
+        }
+    }
+
+    static class Reader {
+        private final DataInputStream in;
+        private final List<String> table = new ArrayList<>();
+
+        Reader(InputStream inputStream, int kind) throws IOException {
+            this.in = new DataInputStream(new BufferedInputStream(inputStream));
+            byte[] magic = new byte[MAGIC.length];
+            in.readFully(magic);
+            for (int i = 0; i < MAGIC.length; i++) {
+                if (magic[i] != MAGIC[i]) throw new IOException("Not a LearnCraft deck file");
+            }
+            int version = in.readUnsignedByte();
+            if (version != VERSION) throw new IOException("Unsupported deck format version " + version);
+            int actualKind = in.readUnsignedByte();
+            if (actualKind != kind) throw new IOException("Unexpected record kind " + actualKind);
+        }
+
+        int varInt() throws IOException {
+            return readVarInt(in);
+        }
+
+        String string() throws IOException {
+            int ref = varInt();
+            if (ref == REF_NULL) return null;
+            if (ref != REF_NEW) {
+                int index = ref - 2;
+                if (index >= table.size()) throw new IOException("Bad string reference " + index);
+                return table.get(index);
+            }
+            int length = varInt();
+            byte[] bytes = new byte[length];
+            in.readFully(bytes);
+            String value = new String(bytes, StandardCharsets.UTF_8);
+            table.add(value);
+            return value;
+        }
+
+        /**
+         * Tag of the next section, or END_OF_SECTIONS; follow with section() or skipSection()
+         */
+        int sectionTag() throws IOException {
+            return varInt();
+        }
+
+        byte[] section() throws IOException {
+            byte[] payload = new byte[varInt()];
+            in.readFully(payload);
+            return payload;
+        }
+
+        void skipSection(int tag) throws IOException {
+            int length = varInt();
+            if (in.skipBytes(length) != length) throw new EOFException("Truncated section " + tag);
+        }
+
+        void skipSections() throws IOException {
+            int tag;
+            while ((tag = sectionTag()) != END_OF_SECTIONS) {
+                skipSection(tag);
+            }
+        }
+    }
+
+    static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IOException("Malformed varint");
+    }
+}
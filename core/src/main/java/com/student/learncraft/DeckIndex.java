@@ -0,0 +1,197 @@
+package com.student.learncraft;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Inverted index over a prepared deck: normalized term -> sentence IDs, plus side tables
+ * for definition sentences, keywords and spelled-out acronyms, which the question builders
+ * borrow distractors from.
+ * Sentence IDs number every usable sentence in deck order; built once with the GenerationContext.
+ */
+class DeckIndex {
+
+    // Terms shorter than this are mostly function words
+    private static final int MIN_TERM_LENGTH = 4;
+
+    private final SentenceFeatures[] sentences;
+    private final int[] slideOf;
+    private final Map<SentenceFeatures, Integer> ids;
+    private final Map<String, int[]> postings;
+
+    private final int[] definitionIds;
+    private final List<String> keywords;
+    private final Map<Character, List<SentenceFeatures>> acronyms;
+
+    DeckIndex(List<GenerationContext.SlidePlan> plans) {
+        int total = 0;
+        for (GenerationContext.SlidePlan plan : plans) total += plan.sentences.size();
+        sentences = new SentenceFeatures[total];
+        slideOf = new int[total];
+        ids = new IdentityHashMap<>(total);
+
+        int id = 0;
+        int definitions = 0;
+        for (int slide = 0; slide < plans.size(); slide++) {
+            for (SentenceFeatures s : plans.get(slide).sentences) {
+                sentences[id] = s;
+                slideOf[id] = slide;
+                ids.put(s, id);
+                if (s.hasDefinitionVerb) definitions++;
+                id++;
+            }
+        }
+
+        // Two passes over the terms so postings go straight into int arrays
+        Map<String, int[]> counts = new HashMap<>();
+        for (SentenceFeatures s : sentences) {
+            forEachTerm(s.text, term -> counts.computeIfAbsent(term, t -> new int[1])[0]++);
+        }
+        postings = new HashMap<>(counts.size() * 2);
+        Map<String, int[]> fill = new HashMap<>(counts.size() * 2);
+        for (Map.Entry<String, int[]> entry : counts.entrySet()) {
+            postings.put(entry.getKey(), new int[entry.getValue()[0]]);
+            fill.put(entry.getKey(), new int[1]);
+        }
+
+        definitionIds = new int[definitions];
+        int definitionCount = 0;
+        Map<String, Boolean> seenKeywords = new LinkedHashMap<>();
+        Set<String> seenAcronyms = new HashSet<>();
+        Map<Character, List<SentenceFeatures>> acronyms = new HashMap<>();
+        for (int sentence = 0; sentence < sentences.length; sentence++) {
+            SentenceFeatures s = sentences[sentence];
+            int current = sentence;
+            forEachTerm(s.text, term -> {
+                int[] list = postings.get(term);
+                int[] next = fill.get(term);
+                // A term repeated within one sentence is listed once
+                if (next[0] == 0 || list[next[0] - 1] != current) list[next[0]++] = current;
+            });
+
+            if (s.hasDefinitionVerb) definitionIds[definitionCount++] = sentence;
+            if (s.keyword != null) seenKeywords.putIfAbsent(s.keyword, Boolean.TRUE);
+            if (s.acronymForm != SentenceFeatures.AcronymForm.NONE && s.expansionStart >= 0
+                    && seenAcronyms.add(s.acronym())) {
+                acronyms.computeIfAbsent(Character.toUpperCase(s.acronym().charAt(0)), c -> new ArrayList<>()).add(s);
+            }
+        }
+        // Trim postings that held repeats
+        for (Map.Entry<String, int[]> entry : postings.entrySet()) {
+            int size = fill.get(entry.getKey())[0];
+            if (size < entry.getValue().length) {
+                int[] trimmed = new int[size];
+                System.arraycopy(entry.getValue(), 0, trimmed, 0, size);
+                entry.setValue(trimmed);
+            }
+        }
+
+        this.keywords = Collections.unmodifiableList(new ArrayList<>(seenKeywords.keySet()));
+        this.acronyms = acronyms;
+    }
+
+    int sentenceCount() {
+        return sentences.length;
+    }
+
+    SentenceFeatures sentence(int id) {
+        return sentences[id];
+    }
+
+    /**
+     * ID of one of the deck's own sentences, or -1 for any other
+     */
+    int idOf(SentenceFeatures sentence) {
+        Integer id = ids.get(sentence);
+        return id != null ? id : -1;
+    }
+
+    /**
+     * Index into the deck's slide plans
+     */
+    int slideOf(int id) {
+        return slideOf[id];
+    }
+
+    /**
+     * Sentences with a definition verb, ascending
+     */
+    int[] definitionSentences() {
+        return definitionIds;
+    }
+
+    /**
+     * Distinct sentence keywords, in order of first appearance
+     */
+    List<String> keywords() {
+        return keywords;
+    }
+
+    /**
+     * For each acronym starting with this (uppercase) letter, the first sentence that spells it out, in deck order
+     */
+    List<SentenceFeatures> acronymsStartingWith(char initial) {
+        List<SentenceFeatures> list = acronyms.get(initial);
+        return list != null ? Collections.unmodifiableList(list) : Collections.emptyList();
+    }
+
+    /**
+     * Keywords of other sentences that share a term with this one, in term then deck order.
+     * Looks at a bounded number of postings per term, so the cost doesn't grow with the deck.
+     */
+    List<String> relatedKeywords(SentenceFeatures target, int limit, int postingsPerTerm) {
+        List<String> related = new ArrayList<>(limit);
+        List<String> terms = new ArrayList<>();
+        forEachTerm(target.text, terms::add);
+
+        for (String term : terms) {
+            int[] ids = postings.get(term);
+            if (ids == null) continue;
+            for (int i = 0; i < ids.length && i < postingsPerTerm; i++) {
+                SentenceFeatures other = sentences[ids[i]];
+                if (other == target || other.keyword == null || related.contains(other.keyword)) continue;
+                related.add(other.keyword);
+                if (related.size() >= limit) return related;
+            }
+        }
+        return related;
+    }
+
+    private interface TermConsumer {
+        void accept(String term);
+    }
+
+    // Lowercased runs of ASCII letters and digits, long enough to carry meaning
+    private static void forEachTerm(String text, TermConsumer consumer) {
+        int i = 0;
+        int length = text.length();
+        while (i < length) {
+            while (i < length && !isTermChar(text.charAt(i))) i++;
+            int start = i;
+            while (i < length && isTermChar(text.charAt(i))) i++;
+            if (i - start >= MIN_TERM_LENGTH) {
+                consumer.accept(lower(text, start, i));
+            }
+        }
+    }
+
+    private static String lower(String text, int start, int end) {
+        char[] chars = new char[end - start];
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            chars[i - start] = c >= 'A' && c <= 'Z' ? (char) (c + 32) : c;
+        }
+        return new String(chars);
+    }
+
+    private static boolean isTermChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+}
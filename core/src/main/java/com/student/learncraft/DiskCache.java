@@ -0,0 +1,170 @@
+package com.student.learncraft;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Small LRU file cache: one file per key, bounded by total bytes.
+ * A hit touches the file's modification time, eviction removes the oldest files first.
+ */
+public class DiskCache {
+
+    private static final String SUFFIX = ".bin";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final File directory;
+    private final long maxBytes;
+
+    public DiskCache(File directory, long maxBytes) {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        directory.mkdirs();
+    }
+
+    /**
+     * Returns the cached bytes for a key, or null on a miss
+     */
+    public synchronized byte[] get(String key) {
+        File file = fileFor(key);
+        if (!file.isFile()) return null;
+
+        try (InputStream in = new FileInputStream(file)) {
+            byte[] data = new byte[(int) file.length()];
+            int offset = 0;
+            while (offset < data.length) {
+                int read = in.read(data, offset, data.length - offset);
+                if (read < 0) return null;
+                offset += read;
+            }
+            file.setLastModified(System.currentTimeMillis());
+            return data;
+        } catch (IOException e) {
+            file.delete();
+            return null;
+        }
+    }
+
+    /**
+     * Stores bytes under a key, then trims the cache back under its size limit
+     */
+    public synchronized void put(String key, byte[] data) {
+        if (data.length > maxBytes) return;
+
+        File temp = tempFile(key);
+        try (OutputStream out = new FileOutputStream(temp)) {
+            out.write(data);
+        } catch (IOException e) {
+            temp.delete();
+            return;
+        }
+        commit(key, temp);
+    }
+
+    /**
+     * Returns the entry's file for callers that read it in place, or null on a miss
+     */
+    public synchronized File getFile(String key) {
+        File file = fileFor(key);
+        if (!file.isFile()) return null;
+        file.setLastModified(System.currentTimeMillis());
+        return file;
+    }
+
+    /**
+     * Scratch file for writing a large entry; hand it to commit() once complete
+     */
+    public File tempFile(String key) {
+        return new File(directory, key + TEMP_SUFFIX);
+    }
+
+    /**
+     * Moves a finished temp file into place and trims the cache
+     * @return the entry's file, or null if it couldn't be stored
+     */
+    public synchronized File commit(String key, File temp) {
+        if (temp.length() > maxBytes) {
+            temp.delete();
+            return null;
+        }
+
+        // Rename so readers never see a half written entry
+        File file = fileFor(key);
+        if (!temp.renameTo(file)) {
+            temp.delete();
+            return null;
+        }
+        trimToSize(file);
+        return file;
+    }
+
+    public synchronized void remove(String key) {
+        fileFor(key).delete();
+    }
+
+    /**
+     * Removes every entry whose key starts with the prefix
+     */
+    public synchronized void removePrefix(String prefix) {
+        File[] files = directory.listFiles((dir, name) -> name.startsWith(prefix) && name.endsWith(SUFFIX));
+        if (files == null) return;
+        for (File file : files) {
+            file.delete();
+        }
+    }
+
+    /**
+     * Removes entries under the prefix except those that also start with keepPrefix,
+     * e.g. every older version of one document
+     */
+    public synchronized void removeStale(String prefix, String keepPrefix) {
+        File[] files = directory.listFiles((dir, name) -> name.startsWith(prefix)
+                && !name.startsWith(keepPrefix) && name.endsWith(SUFFIX));
+        if (files == null) return;
+        for (File file : files) {
+            file.delete();
+        }
+    }
+
+    public synchronized void clear() {
+        removePrefix("");
+    }
+
+    public synchronized long size() {
+        long total = 0;
+        File[] files = directory.listFiles((dir, name) -> name.endsWith(SUFFIX));
+        if (files == null) return 0;
+        for (File file : files) {
+            total += file.length();
+        }
+        return total;
+    }
+
+    private void trimToSize(File keep) {
+        File[] files = directory.listFiles((dir, name) -> name.endsWith(SUFFIX));
+        if (files == null) return;
+
+        long total = 0;
+        for (File file : files) {
+            total += file.length();
+        }
+        if (total <= maxBytes) return;
+
+        // Least recently used first
+        Arrays.sort(files, (a, b) -> Long.compare(a.lastModified(), b.lastModified()));
+        for (File file : files) {
+            if (total <= maxBytes) break;
+            if (file.equals(keep)) continue;
+            long length = file.length();
+            if (file.delete()) total -= length;
+        }
+    }
+
+    private File fileFor(String key) {
+        return new File(directory, key + SUFFIX);
+    }
+}
@@ -0,0 +1,376 @@
+package com.student.learncraft;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.regex.Pattern;
+
+/**
+ * Everything MCQGenerator needs from one deck, prepared once per PPTContent:
+ * cleaned sentences, topics, definitions, keywords and acronyms for each slide,
+ * plus the distractor pools, grouped by topic, that other slides contribute.
+ * Building a question then only looks things up.
+ */
+class GenerationContext {
+
+    private static final Pattern TOPIC_PREFIX = Pattern.compile("(?i)(introduction of|concept of|using)\\s+");
+
+    /**
+     * Question types the candidate pool can ask about a slide
+     */
+    enum Kind {
+        DEFINITION,
+        TRUE_STATEMENT,
+        NOT_RELATED,
+        FILL_BLANK,
+        FULL_FORM
+    }
+
+    /**
+     * A (slide, type) pair whose builder is known to succeed
+     */
+    static class Candidate {
+        final SlidePlan plan;
+        final Kind kind;
+
+        Candidate(SlidePlan plan, Kind kind) {
+            this.plan = plan;
+            this.kind = kind;
+        }
+    }
+
+    /**
+     * One slide, ready for the question builders
+     */
+    static class SlidePlan {
+        final PPTContent.SlideContent slide;
+        final String topic;
+        final List<SentenceFeatures> sentences;
+        final List<String> keywords;           // one per sentence, may be null
+
+        final SentenceFeatures definition;     // first sentence that defines the topic
+        final SentenceFeatures blankTarget;    // first sentence long enough to blank out at "is"/"are"
+        final boolean hasAcronym;              // "X stands for Y" / "X (Y)" somewhere on the slide
+        final boolean hasFullForm;             // ...and one of them splits into acronym and expansion
+        final boolean ranked;                  // sentences carry analysis importance or TF-IDF weights
+        final List<Kind> suitedKinds;          // question types the sentence types call for; empty if not analyzed
+
+        SlidePlan(PPTContent.SlideContent slide) {
+            this(slide, null, null);
+        }
+
+        /**
+         * @param analysis the slide's entry in the deck analysis, or null to work from the text alone
+         * @param weights the slide's TF-IDF scores, or null without term stats
+         */
+        SlidePlan(PPTContent.SlideContent slide, List<ContentAnalyzer.AnalyzedContent> analysis, float[] weights) {
+            this.slide = slide;
+            this.topic = topicOf(slide);
+            this.sentences = SentenceFeatures.of(slide.getContentPoints(), analysis, weights);
+            this.ranked = analysis != null || weights != null;
+
+            List<String> keywords = new ArrayList<>(sentences.size());
+            SentenceFeatures definition = null;
+            SentenceFeatures blankTarget = null;
+            boolean hasAcronym = false;
+            boolean hasFullForm = false;
+            Set<Kind> suited = EnumSet.noneOf(Kind.class);
+            for (SentenceFeatures s : sentences) {
+                keywords.add(s.keyword);
+                // Ranked slides ask about their best candidate, the others about the first one
+                if (s.isDefinition && (definition == null || s.ranksAbove(definition))) definition = s;
+                // Only sentences that split at the copula, so a higher-ranked one can't crowd out a usable one
+                if (s.hasIsAre && s.copulaStart >= 0 && s.wordCount > 5
+                        && (blankTarget == null || s.ranksAbove(blankTarget))) {
+                    blankTarget = s;
+                }
+                hasAcronym |= s.acronymHint;
+                hasFullForm |= s.acronymForm != SentenceFeatures.AcronymForm.NONE;
+                if (s.type != null) suited.addAll(kindsFor(s.type));
+            }
+            this.keywords = Collections.unmodifiableList(keywords);
+            this.definition = definition;
+            this.blankTarget = blankTarget;
+            this.hasAcronym = hasAcronym;
+            this.hasFullForm = hasFullForm;
+            this.suitedKinds = Collections.unmodifiableList(new ArrayList<>(suited));
+        }
+
+        private static List<Kind> kindsFor(ContentAnalyzer.ContentType type) {
+            switch (type) {
+                case DEFINITION: return Arrays.asList(Kind.DEFINITION, Kind.FILL_BLANK);
+                case COMPARISON: return Collections.singletonList(Kind.NOT_RELATED);
+                case LIST_ITEM: return Collections.singletonList(Kind.TRUE_STATEMENT);
+                default: return Arrays.asList(Kind.TRUE_STATEMENT, Kind.FILL_BLANK);
+            }
+        }
+
+        /**
+         * First sentence, offered as the odd one out in NOT questions about other slides
+         */
+        String firstAnswer() {
+            return sentences.get(0).answer;
+        }
+    }
+
+    final PPTContent content;
+    private final DeckAnalysis analysis;
+    private final TermStats termStats;
+    final List<SlidePlan> plans;
+    final DeckIndex index;
+    final SimilarityIndex similarity;
+
+    // Sentence IDs other topics can borrow, one group per topic that has any, topics in deck order:
+    // every definition sentence, and the first sentence of every slide
+    private final Map<String, Integer> topicIds = new HashMap<>();
+    private TopicGroups definitionGroups;
+    private TopicGroups firstSentenceGroups;
+
+    private List<Candidate> candidates;
+
+    GenerationContext(PPTContent content) {
+        this.content = content;
+        this.analysis = content.getAnalysis();
+        this.termStats = content.getTermStats();
+        List<SlidePlan> plans = new ArrayList<>(content.getSlides().size());
+        for (int i = 0; i < content.getSlides().size(); i++) {
+            plans.add(new SlidePlan(content.getSlides().get(i), analysisOf(i), weightsOf(i)));
+        }
+        this.plans = Collections.unmodifiableList(plans);
+        this.index = new DeckIndex(this.plans);
+        this.similarity = new SimilarityIndex(index);
+        groupByTopic();
+    }
+
+    /**
+     * Same context, with the slides prepared on the given pool
+     */
+    GenerationContext(PPTContent content, ForkJoinPool pool) {
+        this.content = content;
+        this.analysis = content.getAnalysis();
+        this.termStats = content.getTermStats();
+        List<ForkJoinTask<SlidePlan>> tasks = new ArrayList<>(content.getSlides().size());
+        for (int i = 0; i < content.getSlides().size(); i++) {
+            PPTContent.SlideContent slide = content.getSlides().get(i);
+            List<ContentAnalyzer.AnalyzedContent> slideAnalysis = analysisOf(i);
+            float[] weights = weightsOf(i);
+            tasks.add(pool.submit(() -> new SlidePlan(slide, slideAnalysis, weights)));
+        }
+        List<SlidePlan> plans = new ArrayList<>(tasks.size());
+        for (ForkJoinTask<SlidePlan> task : tasks) {
+            plans.add(task.join());
+        }
+        this.plans = Collections.unmodifiableList(plans);
+        this.index = new DeckIndex(this.plans);
+        this.similarity = new SimilarityIndex(index);
+        groupByTopic();
+    }
+
+    /**
+     * True if this context was built for the deck as it is now
+     */
+    boolean isFor(PPTContent deck) {
+        if (deck != content || deck.getSlides().size() != plans.size()) return false;
+        // Analysis or term stats attached since, so the plans should pick them up
+        if (deck.getAnalysis() != analysis || deck.getTermStats() != termStats) return false;
+        for (int i = 0; i < plans.size(); i++) {
+            if (deck.getSlides().get(i) != plans.get(i).slide) return false;
+        }
+        return true;
+    }
+
+    // The slide's analysis if the deck has one that still matches it
+    private List<ContentAnalyzer.AnalyzedContent> analysisOf(int slide) {
+        return analysis != null ? analysis.forSlide(slide, content.getSlides().get(slide)) : null;
+    }
+
+    // The slide's TF-IDF scores if the deck has term stats that still match it
+    private float[] weightsOf(int slide) {
+        return termStats != null ? termStats.scoresFor(slide, content.getSlides().get(slide)) : null;
+    }
+
+    /**
+     * Sentence IDs of one kind, split by topic
+     */
+    private static class TopicGroups {
+        final int[] topics;     // topic ID of each group
+        final int[][] ids;      // ascending sentence IDs of each group
+
+        TopicGroups(int[] topics, int[][] ids) {
+            this.topics = topics;
+            this.ids = ids;
+        }
+    }
+
+    private void groupByTopic() {
+        int[] slideTopic = new int[plans.size()];
+        int[] firstSentences = new int[plans.size()];
+        int slidesWithSentences = 0;
+        for (int i = 0; i < plans.size(); i++) {
+            SlidePlan plan = plans.get(i);
+            Integer topic = topicIds.get(plan.topic);
+            if (topic == null) {
+                topic = topicIds.size();
+                topicIds.put(plan.topic, topic);
+            }
+            slideTopic[i] = topic;
+            if (!plan.sentences.isEmpty()) firstSentences[slidesWithSentences++] = index.idOf(plan.sentences.get(0));
+        }
+        definitionGroups = group(index.definitionSentences(), index.definitionSentences().length, slideTopic);
+        firstSentenceGroups = group(firstSentences, slidesWithSentences, slideTopic);
+    }
+
+    // Counting sort of the IDs by topic; ascending IDs stay ascending within a group
+    private TopicGroups group(int[] ids, int count, int[] slideTopic) {
+        int[] sizes = new int[topicIds.size()];
+        for (int i = 0; i < count; i++) sizes[slideTopic[index.slideOf(ids[i])]]++;
+
+        int groupCount = 0;
+        for (int size : sizes) if (size > 0) groupCount++;
+        int[] topics = new int[groupCount];
+        int[][] groups = new int[groupCount][];
+        int[] groupOf = new int[sizes.length];
+        for (int topic = 0, g = 0; topic < sizes.length; topic++) {
+            if (sizes[topic] == 0) continue;
+            topics[g] = topic;
+            groups[g] = new int[sizes[topic]];
+            groupOf[topic] = g++;
+        }
+
+        int[] fill = new int[groupCount];
+        for (int i = 0; i < count; i++) {
+            int g = groupOf[slideTopic[index.slideOf(ids[i])]];
+            groups[g][fill[g]++] = ids[i];
+        }
+        return new TopicGroups(topics, groups);
+    }
+
+    /**
+     * Sentences other topics lend as distractors, at most one per topic: their definitions,
+     * or the first sentence of one of their slides. Goes round the topics from a random one and
+     * takes a random sentence of each, skipping the question's own topic in one step, so the
+     * work depends on how many are wanted, not on the size of the deck.
+     * @param exclude answers already on offer; a topic whose pick is one of them offers its next sentence
+     */
+    List<SentenceFeatures> fromOtherTopics(String topic, boolean definitions, int limit,
+                                           List<String> exclude, Random random) {
+        TopicGroups groups = definitions ? definitionGroups : firstSentenceGroups;
+        List<SentenceFeatures> picked = new ArrayList<>(Math.max(limit, 0));
+        int groupCount = groups.ids.length;
+        if (groupCount == 0 || limit <= 0) return picked;
+
+        Integer own = topicIds.get(topic);
+        int first = random.nextInt(groupCount);
+        for (int step = 0; step < groupCount && picked.size() < limit; step++) {
+            int g = (first + step) % groupCount;
+            if (own != null && groups.topics[g] == own) continue;
+
+            int[] ids = groups.ids[g];
+            int start = random.nextInt(ids.length);
+            for (int i = 0; i < ids.length; i++) {
+                SentenceFeatures s = index.sentence(ids[(start + i) % ids.length]);
+                if (!exclude.contains(s.answer) && !hasAnswer(picked, s.answer)) {
+                    picked.add(s);
+                    break;
+                }
+            }
+        }
+        return picked;
+    }
+
+    private static boolean hasAnswer(List<SentenceFeatures> sentences, String answer) {
+        for (SentenceFeatures s : sentences) {
+            if (s.answer.equals(answer)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Sentences from other topics that read most like the target, closest first.
+     * Only looks at the target's LSH buckets, so it may find fewer than k or none.
+     * @param exclude answers already on offer
+     */
+    List<SentenceFeatures> closestFromOtherTopics(SentenceFeatures target, String topic, int k,
+                                                  boolean definitionsOnly, List<String> exclude) {
+        int id = index.idOf(target);
+        if (id < 0) return Collections.emptyList();
+
+        List<SentenceFeatures> closest = new ArrayList<>(k);
+        for (int other : similarity.similar(id, k, candidate -> {
+            SentenceFeatures s = index.sentence(candidate);
+            return (!definitionsOnly || s.hasDefinitionVerb)
+                    && !exclude.contains(s.answer)
+                    && !plans.get(index.slideOf(candidate)).topic.equals(topic);
+        })) {
+            closest.add(index.sentence(other));
+        }
+        return closest;
+    }
+
+    /**
+     * Every question this deck can produce, one per feasible (slide, type), in deck order.
+     * Worked out once; feasibility doesn't depend on slide order or the random sequence.
+     */
+    List<Candidate> candidates() {
+        if (candidates != null) return candidates;
+
+        // Up to four distinct first sentences per topic: a NOT question excludes three answers
+        // on its own slide, so four are enough to tell whether some other slide can lend one
+        Map<String, Set<String>> firstAnswers = new HashMap<>();
+        for (SlidePlan plan : plans) {
+            if (plan.sentences.isEmpty()) continue;
+            Set<String> answers = firstAnswers.computeIfAbsent(plan.topic, t -> new LinkedHashSet<>());
+            if (answers.size() < 4) answers.add(plan.firstAnswer());
+        }
+
+        List<Candidate> list = new ArrayList<>();
+        for (SlidePlan plan : plans) {
+            if (plan.definition != null) list.add(new Candidate(plan, Kind.DEFINITION));
+            if (plan.sentences.size() >= 3) {
+                list.add(new Candidate(plan, Kind.TRUE_STATEMENT));
+                if (hasOddOneOut(plan, firstAnswers)) list.add(new Candidate(plan, Kind.NOT_RELATED));
+            }
+            if (plan.blankTarget != null && plan.blankTarget.copulaStart >= 0) {
+                list.add(new Candidate(plan, Kind.FILL_BLANK));
+            }
+            if (plan.hasFullForm) list.add(new Candidate(plan, Kind.FULL_FORM));
+        }
+        candidates = Collections.unmodifiableList(list);
+        return candidates;
+    }
+
+    private static boolean hasOddOneOut(SlidePlan plan, Map<String, Set<String>> firstAnswers) {
+        List<String> own = new ArrayList<>(3);
+        for (int i = 0; i < 3; i++) own.add(plan.sentences.get(i).answer);
+
+        for (Map.Entry<String, Set<String>> entry : firstAnswers.entrySet()) {
+            if (entry.getKey().equals(plan.topic)) continue;
+            for (String answer : entry.getValue()) {
+                if (!own.contains(answer)) return true;
+            }
+        }
+        return false;
+    }
+
+    static String topicOf(PPTContent.SlideContent slide) {
+        String title = slide.getTitle();
+        if (title != null && !title.isEmpty()) {
+            return TOPIC_PREFIX.matcher(title).replaceAll("").trim();
+        }
+        List<String> points = slide.getContentPoints();
+        if (!points.isEmpty()) {
+            String[] words = points.get(0).split("\\s+");
+            return words.length > 0 ? words[0] : "the topic";
+        }
+        return "the topic";
+    }
+}
@@ -0,0 +1,66 @@
+package com.student.learncraft;
+
+import java.util.Locale;
+
+/**
+ * What one ingest pass read from the PPTX and what it left alone.
+ * Sizes are compressed bytes as stored in the zip.
+ */
+public class IngestStats {
+
+    private int partsRead;
+    private int partsSkipped;
+    private long bytesRead;
+    private long bytesSkipped;
+    private long bytesInflatedToSkip;
+
+    /**
+     * A part that was inflated and parsed (slide XML, presentation.xml and its rels)
+     */
+    void addRead(long compressedSize) {
+        partsRead++;
+        bytesRead += compressedSize;
+    }
+
+    /**
+     * A part that was passed over without inflating (media, OLE objects, thumbnails, layouts...)
+     */
+    void addSkipped(long compressedSize) {
+        partsSkipped++;
+        bytesSkipped += compressedSize;
+    }
+
+    /**
+     * A part that had to be inflated and discarded because the stream didn't say how long it was
+     */
+    void addInflatedToSkip(long compressedSize) {
+        partsSkipped++;
+        bytesInflatedToSkip += compressedSize;
+    }
+
+    public int getPartsRead() {
+        return partsRead;
+    }
+
+    public int getPartsSkipped() {
+        return partsSkipped;
+    }
+
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    public long getBytesSkipped() {
+        return bytesSkipped;
+    }
+
+    public long getBytesInflatedToSkip() {
+        return bytesInflatedToSkip;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.US, "read %d parts (%d bytes), skipped %d parts (%d bytes, %d inflated)",
+                partsRead, bytesRead, partsSkipped, bytesSkipped + bytesInflatedToSkip, bytesInflatedToSkip);
+    }
+}
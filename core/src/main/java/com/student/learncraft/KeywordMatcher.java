@@ -0,0 +1,115 @@
+package com.student.learncraft;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+
+/**
+ * Aho-Corasick automaton over groups of lowercase keyword phrases.
+ * One pass over a sentence reports which groups occur in it as whole words,
+ * so "vs" matches "A vs B" but not "canvas".
+ */
+class KeywordMatcher {
+
+    // Keywords are ASCII letters and single spaces; anything else sends the automaton back to the root
+    private static final int ALPHABET = 27;
+    private static final int SPACE = 26;
+
+    private final int[][] next;        // state -> symbol -> state, failure links already folded in
+    private final int[][] outputs;     // state -> {length, group, length, group, ...} of keywords ending here
+
+    /**
+     * @param groups keyword lists; group i sets bit i of match()
+     */
+    KeywordMatcher(String[]... groups) {
+        List<int[]> trie = new ArrayList<>();
+        List<List<Integer>> ends = new ArrayList<>();
+        trie.add(newState());
+        ends.add(new ArrayList<>());
+
+        for (int group = 0; group < groups.length; group++) {
+            for (String keyword : groups[group]) {
+                int state = 0;
+                for (int i = 0; i < keyword.length(); i++) {
+                    int symbol = symbolOf(keyword.charAt(i));
+                    if (symbol < 0) throw new IllegalArgumentException("Unsupported keyword: " + keyword);
+                    if (trie.get(state)[symbol] == 0) {
+                        trie.get(state)[symbol] = trie.size();
+                        trie.add(newState());
+                        ends.add(new ArrayList<>());
+                    }
+                    state = trie.get(state)[symbol];
+                }
+                ends.get(state).add(keyword.length());
+                ends.get(state).add(group);
+            }
+        }
+
+        // Breadth first, so a state's failure target is finished before the state itself
+        next = trie.toArray(new int[0][]);
+        int[] fail = new int[next.length];
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int symbol = 0; symbol < ALPHABET; symbol++) {
+            if (next[0][symbol] != 0) queue.add(next[0][symbol]);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            ends.get(state).addAll(ends.get(fail[state]));
+            for (int symbol = 0; symbol < ALPHABET; symbol++) {
+                int child = next[state][symbol];
+                if (child != 0) {
+                    fail[child] = next[fail[state]][symbol];
+                    queue.add(child);
+                } else {
+                    next[state][symbol] = next[fail[state]][symbol];
+                }
+            }
+        }
+
+        outputs = new int[next.length][];
+        for (int state = 0; state < next.length; state++) {
+            List<Integer> list = ends.get(state);
+            outputs[state] = new int[list.size()];
+            for (int i = 0; i < list.size(); i++) outputs[state][i] = list.get(i);
+        }
+    }
+
+    /**
+     * Bit mask of the groups with at least one keyword in the text as whole words, ignoring case
+     */
+    int match(String text) {
+        int found = 0;
+        int state = 0;
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            int symbol = symbolOf(Character.toLowerCase(text.charAt(i)));
+            if (symbol < 0) {
+                state = 0;
+                continue;
+            }
+            state = next[state][symbol];
+
+            int[] out = outputs[state];
+            if (out.length == 0) continue;
+            // A keyword counts only with no letter or digit right before or after it
+            if (i + 1 < length && Character.isLetterOrDigit(text.charAt(i + 1))) continue;
+            for (int k = 0; k < out.length; k += 2) {
+                int start = i + 1 - out[k];
+                if (start == 0 || !Character.isLetterOrDigit(text.charAt(start - 1))) {
+                    found |= 1 << out[k + 1];
+                }
+            }
+        }
+        return found;
+    }
+
+    private static int[] newState() {
+        return new int[ALPHABET];
+    }
+
+    private static int symbolOf(char c) {
+        if (c >= 'a' && c <= 'z') return c - 'a';
+        return c == ' ' ? SPACE : -1;
+    }
+}
@@ -0,0 +1,190 @@
+package com.student.learncraft;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Splits text on whitespace and keeps the words that look like keywords: longer than
+ * three letters/digits once punctuation is dropped, and not a stop word.
+ * Works on the text in place with one reusable buffer; a keyword only becomes a String when read.
+ * Not thread safe, use one per thread.
+ */
+class KeywordTokenizer {
+
+    private static final String[] STOP_WORDS = {"the", "is", "are", "was", "were", "a", "an", "and",
+            "or", "but", "in", "on", "at", "to", "for"};
+    private static final int MIN_LENGTH = 4;
+
+    // Collision-free table for STOP_WORDS: slot = hash(word) & MASK
+    private static final int TABLE_SIZE = 32;
+    private static final int MASK = TABLE_SIZE - 1;
+    private static final char[][] STOP_TABLE = new char[TABLE_SIZE][];
+    private static final int MULTIPLIER;
+
+    static {
+        // Small enough to search for a multiplier that gives every stop word its own slot
+        int multiplier = 1;
+        search:
+        for (; ; multiplier += 2) {
+            Arrays.fill(STOP_TABLE, null);
+            for (String word : STOP_WORDS) {
+                int slot = hash(word.toCharArray(), word.length(), multiplier) & MASK;
+                if (STOP_TABLE[slot] != null) continue search;
+                STOP_TABLE[slot] = word.toCharArray();
+            }
+            break;
+        }
+        MULTIPLIER = multiplier;
+    }
+
+    /**
+     * Keywords of one text, stored as offsets into it.
+     * Can be changed like an ArrayList; the first change copies the keywords into one.
+     */
+    static class Spans extends AbstractList<String> {
+        private final String text;
+        private int[] bounds = new int[8];   // start, end of each raw whitespace-separated word
+        private int size;
+        private String[] strings;
+        private List<String> modified;       // the keywords once the list has been changed
+
+        Spans(String text) {
+            this.text = text;
+        }
+
+        void add(int start, int end) {
+            if (size * 2 == bounds.length) bounds = Arrays.copyOf(bounds, bounds.length * 2);
+            bounds[size * 2] = start;
+            bounds[size * 2 + 1] = end;
+            size++;
+        }
+
+        int start(int i) {
+            return bounds[i * 2];
+        }
+
+        int end(int i) {
+            return bounds[i * 2 + 1];
+        }
+
+        /**
+         * The keyword, lowercased with punctuation removed
+         */
+        @Override
+        public String get(int i) {
+            if (modified != null) return modified.get(i);
+            if (i < 0 || i >= size) throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + size);
+            if (strings == null) strings = new String[size];
+            if (strings[i] == null) {
+                char[] chars = new char[end(i) - start(i)];
+                int length = normalize(text, start(i), end(i), chars);
+                strings[i] = new String(chars, 0, length);
+            }
+            return strings[i];
+        }
+
+        @Override
+        public int size() {
+            return modified != null ? modified.size() : size;
+        }
+
+        @Override
+        public String set(int i, String keyword) {
+            return modified().set(i, keyword);
+        }
+
+        @Override
+        public void add(int i, String keyword) {
+            modified().add(i, keyword);
+            modCount++;
+        }
+
+        @Override
+        public String remove(int i) {
+            String removed = modified().remove(i);
+            modCount++;
+            return removed;
+        }
+
+        private List<String> modified() {
+            if (modified == null) {
+                List<String> copy = new ArrayList<>(Math.max(size, 10));
+                for (int i = 0; i < size; i++) copy.add(get(i));
+                modified = copy;
+                strings = null;
+            }
+            return modified;
+        }
+    }
+
+    /**
+     * Receives each keyword as it is found; the buffer is only valid during the call
+     */
+    interface Sink {
+        void keyword(char[] normalized, int length, int start, int end);
+    }
+
+    private char[] buffer = new char[32];
+
+    /**
+     * Keywords of the text in order, duplicates included
+     */
+    Spans tokenize(String text) {
+        Spans spans = new Spans(text);
+        forEach(text, (normalized, length, start, end) -> spans.add(start, end));
+        return spans;
+    }
+
+    /**
+     * Hands every keyword of the text to the sink, in order, without creating Strings
+     */
+    void forEach(String text, Sink sink) {
+        int length = text.length();
+        int pos = 0;
+        while (pos < length) {
+            while (pos < length && isSpace(text.charAt(pos))) pos++;
+            int start = pos;
+            while (pos < length && !isSpace(text.charAt(pos))) pos++;
+            if (pos == start) break;
+
+            if (pos - start > buffer.length) buffer = new char[Math.max(pos - start, buffer.length * 2)];
+            int cleaned = normalize(text, start, pos, buffer);
+            if (cleaned >= MIN_LENGTH && !isStopWord(buffer, cleaned)) sink.keyword(buffer, cleaned, start, pos);
+        }
+    }
+
+    // Keeps ASCII letters and digits, lowercased; returns how many were written
+    private static int normalize(String text, int start, int end, char[] out) {
+        int length = 0;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c >= 'A' && c <= 'Z') out[length++] = (char) (c + 32);
+            else if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) out[length++] = c;
+        }
+        return length;
+    }
+
+    private static boolean isStopWord(char[] word, int length) {
+        char[] candidate = STOP_TABLE[hash(word, length, MULTIPLIER) & MASK];
+        if (candidate == null || candidate.length != length) return false;
+        for (int i = 0; i < length; i++) {
+            if (candidate[i] != word[i]) return false;
+        }
+        return true;
+    }
+
+    private static int hash(char[] word, int length, int multiplier) {
+        int h = length;
+        for (int i = 0; i < length; i++) {
+            h = h * multiplier + word[i];
+        }
+        return h ^ (h >>> 7);
+    }
+
+    // Same characters as the regex \s
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
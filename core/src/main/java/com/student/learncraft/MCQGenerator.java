@@ -0,0 +1,724 @@
+package com.student.learncraft;
+
+import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.BooleanSupplier;
+
+public class MCQGenerator {
+
+    private final Random random;
+
+    // Postings looked at per term when borrowing related keywords from the deck index
+    private static final int RELATED_POSTINGS = 8;
+
+    // Prepared slides of the last deck, reused while the same deck is asked for again
+    private GenerationContext context;
+
+    // ==================================================================================
+    // 🧠 THE "TECH DICTIONARY" - Used to build fake, convincing full forms
+    // ==================================================================================
+    private static final Map<Character, List<String>> TECH_TERMS = new HashMap<>();
+
+    static {
+        TECH_TERMS.put('A', Arrays.asList("Application", "Architecture", "Access", "Active", "Algorithm", "Allocation", "Analysis", "Array", "Async", "Attribute", "Authentication", "Authorization", "Adapter"));
+        TECH_TERMS.put('B', Arrays.asList("Base", "Binary", "Block", "Bridge", "Browser", "Buffer", "Bus", "Byte", "Back", "Backend", "Bean", "Bit", "Bootstrap"));
+        TECH_TERMS.put('C', Arrays.asList("Control", "Central", "Computer", "Code", "Cache", "Client", "Common", "Core", "Cyber", "Class", "Component", "Configuration", "Connection", "Container", "Context"));
+        TECH_TERMS.put('D', Arrays.asList("Data", "Digital", "Direct", "Domain", "Dynamic", "Device", "Driver", "Disk", "Database", "Definition", "Dependency", "Deployment", "Directory"));
+        TECH_TERMS.put('E', Arrays.asList("Electronic", "Engine", "End", "Error", "Event", "External", "Execution", "Extended", "Element", "Entity", "Environment", "Exception", "Encapsulation"));
+        TECH_TERMS.put('F', Arrays.asList("File", "Format", "Frame", "Function", "Field", "Flow", "Form", "Frequency", "Front", "Factory", "Filter", "Framework", "Fetch"));
+        TECH_TERMS.put('G', Arrays.asList("Global", "Graphic", "Gateway", "Group", "Grid", "Generate", "General", "Generic", "Graph"));
+        TECH_TERMS.put('H', Arrays.asList("Hyper", "Hardware", "Host", "Heap", "Hash", "Handler", "High", "Header", "Handle"));
+        TECH_TERMS.put('I', Arrays.asList("Interface", "Internet", "Information", "Input", "Internal", "Instruction", "Image", "Index", "Integrated", "Implementation", "Instance", "Isolation", "Injection"));
+        TECH_TERMS.put('J', Arrays.asList("Java", "Job", "Join", "Journal", "Just", "JSON", "Jvm"));
+        TECH_TERMS.put('K', Arrays.asList("Key", "Kernel", "Knowledge", "Kit"));
+        TECH_TERMS.put('L', Arrays.asList("Language", "Local", "Link", "Logic", "Layer", "List", "Load", "Loop", "Library", "Lock", "Latency"));
+        TECH_TERMS.put('M', Arrays.asList("Memory", "Machine", "Model", "Module", "Main", "Media", "Method", "Management", "Message", "Mode", "Mapping", "Middleware", "Monitor"));
+        TECH_TERMS.put('N', Arrays.asList("Network", "Node", "Name", "Native", "Null", "Number", "Net", "Namespace", "Notation"));
+        TECH_TERMS.put('O', Arrays.asList("Object", "Output", "Operating", "Open", "Option", "Order", "Organization", "Operation", "Orchestration"));
+        TECH_TERMS.put('P', Arrays.asList("Protocol", "Program", "Processing", "Page", "Path", "Port", "Public", "Packet", "Platform", "Procedure", "Package", "Parameter", "Pipeline"));
+        TECH_TERMS.put('Q', Arrays.asList("Query", "Queue", "Quality", "Quick"));
+        TECH_TERMS.put('R', Arrays.asList("Resource", "Read", "Real", "Remote", "Root", "Runtime", "Random", "Register", "Request", "Response", "Reference", "Repository", "Routing"));
+        TECH_TERMS.put('S', Arrays.asList("System", "Server", "Software", "Source", "Standard", "Storage", "Script", "Security", "Service", "Session", "Socket", "Stack", "Scope", "State", "Structure", "Schema"));
+        TECH_TERMS.put('T', Arrays.asList("Transfer", "Text", "Type", "Thread", "Time", "Tool", "Token", "Transaction", "Table", "Target", "Template", "Technology"));
+        TECH_TERMS.put('U', Arrays.asList("User", "Unit", "Universal", "Url", "Utility", "Update", "Unified", "Upload"));
+        TECH_TERMS.put('V', Arrays.asList("View", "Virtual", "Variable", "Value", "Vector", "Video", "Visual", "Version", "Volume"));
+        TECH_TERMS.put('W', Arrays.asList("Web", "Wide", "Window", "Word", "Wireless", "Write", "Wrapper", "Worker"));
+        TECH_TERMS.put('X', Arrays.asList("Extensible", "Xml", "Xerox"));
+    }
+
+    public MCQGenerator() {
+        this.random = new Random();
+    }
+
+    /**
+     * Same deck, count and seed always give the same questions (benchmarks, tests)
+     */
+    public MCQGenerator(long seed) {
+        this.random = new Random(seed);
+    }
+
+    public List<MCQQuestion> generateQuestions(PPTContent pptContent, int requestedCount) {
+
+        List<PPTContent.SlideContent> slides = pptContent.getSlides();
+        if (slides == null || slides.isEmpty()) return new ArrayList<>();
+
+        GenerationContext context = prepare(pptContent);
+
+        List<GenerationContext.SlidePlan> shuffledSlides = new ArrayList<>(context.plans);
+        Collections.shuffle(shuffledSlides, random);
+
+        List<MCQQuestion> result = new ArrayList<>();
+        int slideIndex = 0;
+        int attempts = 0;
+        int maxAttempts = requestedCount * 3;
+
+        while (result.size() < requestedCount && attempts < maxAttempts) {
+            GenerationContext.SlidePlan slide = shuffledSlides.get(slideIndex);
+
+            MCQQuestion q = generateFromSlide(slide, context, random);
+            if (q != null) {
+                result.add(q);
+            }
+
+            slideIndex++;
+            attempts++;
+
+            if (slideIndex >= shuffledSlides.size()) {
+                slideIndex = 0;
+                Collections.shuffle(shuffledSlides, random);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Candidate-pool generation: lists every (slide, question type) the deck can always answer,
+     * then samples from that pool, spreading picks across types and slides.
+     * Every pick builds a question, so this returns min(requestedCount, countCandidates(deck)).
+     */
+    public List<MCQQuestion> generateFromPool(PPTContent pptContent, int requestedCount) {
+        List<PPTContent.SlideContent> slides = pptContent.getSlides();
+        if (slides == null || slides.isEmpty()) return new ArrayList<>();
+
+        GenerationContext context = prepare(pptContent);
+
+        List<MCQQuestion> result = new ArrayList<>();
+        for (GenerationContext.Candidate candidate : pick(context, requestedCount, random)) {
+            result.add(build(candidate, context, random));
+        }
+        return result;
+    }
+
+    /**
+     * Candidate-pool generation with the questions built on the common fork-join pool
+     */
+    public List<MCQQuestion> generateParallel(PPTContent pptContent, int requestedCount, long seed) {
+        return generateParallel(pptContent, requestedCount, seed, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Candidate-pool generation with the questions built on the given pool.
+     * Every question gets its own SplittableRandom split from the seed, in quiz order,
+     * so the same deck, count and seed give the same quiz whatever the number of threads.
+     */
+    public List<MCQQuestion> generateParallel(PPTContent pptContent, int requestedCount, long seed,
+                                              ForkJoinPool pool) {
+        return generateParallel(pptContent, requestedCount, seed, pool, () -> false);
+    }
+
+    /**
+     * generateParallel that stops between questions once cancelled returns true
+     * @throws CancellationException if it was cancelled before the last question was built
+     */
+    public List<MCQQuestion> generateParallel(PPTContent pptContent, int requestedCount, long seed,
+                                              ForkJoinPool pool, BooleanSupplier cancelled) {
+        List<PPTContent.SlideContent> slides = pptContent.getSlides();
+        if (slides == null || slides.isEmpty()) return new ArrayList<>();
+
+        if (context == null || !context.isFor(pptContent)) {
+            context = new GenerationContext(pptContent, pool);
+        }
+        GenerationContext context = this.context;
+
+        // Sampling and the per-question splits happen here, in order, before anything is forked
+        SplittableRandom root = new SplittableRandom(seed);
+        List<GenerationContext.Candidate> picked = pick(context, requestedCount, new SplitRandom(root.split()));
+
+        List<ForkJoinTask<MCQQuestion>> tasks = new ArrayList<>(picked.size());
+        for (GenerationContext.Candidate candidate : picked) {
+            Random questionRandom = new SplitRandom(root.split());
+            tasks.add(pool.submit(() -> {
+                if (cancelled.getAsBoolean()) throw new CancellationException();
+                return build(candidate, context, questionRandom);
+            }));
+        }
+
+        List<MCQQuestion> result = new ArrayList<>(tasks.size());
+        for (ForkJoinTask<MCQQuestion> task : tasks) {
+            result.add(task.join());
+        }
+        return result;
+    }
+
+    /**
+     * How many distinct questions generateFromPool can produce for this deck
+     */
+    public int countCandidates(PPTContent pptContent) {
+        List<PPTContent.SlideContent> slides = pptContent.getSlides();
+        if (slides == null || slides.isEmpty()) return 0;
+        return prepare(pptContent).candidates().size();
+    }
+
+    /**
+     * Questions built on a background thread, lookAhead at most ahead of the reader.
+     * The first questions are the ones generateParallel(deck, count, seed) returns, less any with
+     * fewer than four options, which the quiz screen can't show; the next picks take their place.
+     * A negative count never ends (practice mode): each time the pool runs out a new pass starts.
+     * The generator must not be used for anything else until the stream is closed.
+     */
+    public QuestionStream stream(PPTContent pptContent, int count, long seed, int lookAhead) {
+        return new QuestionStream(new QuestionStream.Source() {
+            private GenerationContext context;
+            private SplittableRandom root;
+            private List<GenerationContext.Candidate> pass;
+            private int index;
+            private int produced;
+            private int producedBeforePass;
+
+            @Override
+            public MCQQuestion next() {
+                if (context == null) {
+                    List<PPTContent.SlideContent> slides = pptContent.getSlides();
+                    if (slides == null || slides.isEmpty()) return null;
+                    context = prepare(pptContent);
+                    // Same draws, in the same order, as generateParallel
+                    root = new SplittableRandom(seed);
+                    pass = pick(context, context.candidates().size(), new SplitRandom(root.split()));
+                }
+                while (count < 0 || produced < count) {
+                    if (index >= pass.size()) {
+                        // A pass with nothing playable would only repeat itself
+                        if (count >= 0 || produced == producedBeforePass) return null;
+                        pass = pick(context, context.candidates().size(), new SplitRandom(root.split()));
+                        index = 0;
+                        producedBeforePass = produced;
+                    }
+                    MCQQuestion question = build(pass.get(index++), context, new SplitRandom(root.split()));
+                    if (question != null && question.getOptions() != null && question.getOptions().size() >= 4) {
+                        produced++;
+                        return question;
+                    }
+                }
+                return null;
+            }
+        }, lookAhead);
+    }
+
+    private List<GenerationContext.Candidate> pick(GenerationContext context, int requestedCount, Random random) {
+        return sample(context.candidates(), requestedCount, random);
+    }
+
+    /**
+     * Round-robin over question types in random order; within a round each slide is used once,
+     * a new round starts when every remaining candidate sits on a slide already used.
+     * Each type first takes slides whose analyzed sentences call for it (SlidePlan.suitedKinds),
+     * so a comparison slide is asked a NOT question before anything else; unanalyzed slides
+     * only come from the second queue.
+     */
+    private List<GenerationContext.Candidate> sample(List<GenerationContext.Candidate> pool, int count, Random random) {
+        Map<GenerationContext.Kind, List<GenerationContext.Candidate>> byKind = new EnumMap<>(GenerationContext.Kind.class);
+        for (GenerationContext.Candidate candidate : pool) {
+            byKind.computeIfAbsent(candidate.kind, k -> new ArrayList<>()).add(candidate);
+        }
+        // Per type: {suited candidates, the rest}
+        List<List<List<GenerationContext.Candidate>>> queues = new ArrayList<>(byKind.size());
+        for (List<GenerationContext.Candidate> candidates : byKind.values()) {
+            Collections.shuffle(candidates, random);
+            List<GenerationContext.Candidate> suited = new ArrayList<>();
+            List<GenerationContext.Candidate> rest = new ArrayList<>(candidates.size());
+            for (GenerationContext.Candidate candidate : candidates) {
+                (candidate.plan.suitedKinds.contains(candidate.kind) ? suited : rest).add(candidate);
+            }
+            queues.add(Arrays.asList(suited, rest));
+        }
+        Collections.shuffle(queues, random);
+
+        int target = Math.min(count, pool.size());
+        List<GenerationContext.Candidate> picked = new ArrayList<>(Math.max(target, 0));
+        Set<GenerationContext.SlidePlan> usedSlides = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        while (picked.size() < target) {
+            boolean tookAny = false;
+            for (List<List<GenerationContext.Candidate>> kind : queues) {
+                if (picked.size() >= target) break;
+                GenerationContext.Candidate candidate = takeUnused(kind.get(0), usedSlides);
+                if (candidate == null) candidate = takeUnused(kind.get(1), usedSlides);
+                if (candidate != null) {
+                    picked.add(candidate);
+                    tookAny = true;
+                }
+            }
+            if (!tookAny) usedSlides.clear();
+        }
+        return picked;
+    }
+
+    // First candidate on a slide not used this round, removed from the queue
+    private static GenerationContext.Candidate takeUnused(List<GenerationContext.Candidate> queue,
+                                                          Set<GenerationContext.SlidePlan> usedSlides) {
+        for (int i = 0; i < queue.size(); i++) {
+            GenerationContext.Candidate candidate = queue.get(i);
+            if (usedSlides.add(candidate.plan)) {
+                // Queue is already shuffled, so swap-remove keeps it random
+                queue.set(i, queue.get(queue.size() - 1));
+                queue.remove(queue.size() - 1);
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private MCQQuestion build(GenerationContext.Candidate candidate, GenerationContext context, Random random) {
+        return build(candidate.kind, candidate.plan, context, random);
+    }
+
+    private MCQQuestion build(GenerationContext.Kind kind, GenerationContext.SlidePlan slide,
+                              GenerationContext context, Random random) {
+        switch (kind) {
+            case DEFINITION: return definitionMCQ(slide, context, random);
+            case NOT_RELATED: return notTypeMCQ(slide, context, random);
+            case FILL_BLANK: return fillBlankMCQ(slide, context, random);
+            case FULL_FORM: return fullFormMCQ(slide, context, random);
+            default: return trueStatementMCQ(slide, random);
+        }
+    }
+
+    /**
+     * Cleaned sentences, topics and distractor pools are worked out once per deck
+     */
+    private GenerationContext prepare(PPTContent pptContent) {
+        if (context == null || !context.isFor(pptContent)) {
+            context = new GenerationContext(pptContent);
+        }
+        return context;
+    }
+
+    /**
+     * java.util.Random view of one SplittableRandom stream, so Collections.shuffle and the
+     * builders can use it. Each instance stays on one task.
+     */
+    private static class SplitRandom extends Random {
+        private static final long serialVersionUID = 1L;
+
+        private final SplittableRandom source;
+
+        SplitRandom(SplittableRandom source) {
+            super(0);
+            this.source = source;
+        }
+
+        @Override
+        protected int next(int bits) {
+            return source.nextInt() >>> (32 - bits);
+        }
+    }
+
+    /* ================= SLIDE-BASED GENERATION ================= */
+
+    private MCQQuestion generateFromSlide(GenerationContext.SlidePlan slide, GenerationContext context, Random random) {
+        if (slide.sentences.isEmpty()) return null;
+
+        // 🚀 PRIORITY CHECK: Does this slide contain Full Forms/Acronyms?
+        // If yes, FORCE the Full Form generator (Type 4) instead of picking randomly.
+        if (slide.hasAcronym) {
+            MCQQuestion q = fullFormMCQ(slide, context, random);
+            if (q != null) return q; // Return immediately if successful
+        }
+
+        // Analyzed slides try a type their sentences call for, e.g. a definition question for a definition
+        if (!slide.suitedKinds.isEmpty()) {
+            GenerationContext.Kind kind = slide.suitedKinds.get(random.nextInt(slide.suitedKinds.size()));
+            MCQQuestion q = build(kind, slide, context, random);
+            if (q != null) return q;
+        }
+
+        // If no acronym found (or generation failed), fall back to random types
+        int typeChoice = random.nextInt(5);
+
+        switch (typeChoice) {
+            case 0: return definitionMCQ(slide, context, random);
+            case 1: return trueStatementMCQ(slide, random);
+            case 2: return notTypeMCQ(slide, context, random);
+            case 3: return fillBlankMCQ(slide, context, random);
+            // Case 4 is usually covered by the priority check, but we keep it just in case
+            case 4: return fullFormMCQ(slide, context, random);
+            default: return trueStatementMCQ(slide, random);
+        }
+    }
+
+    /* ================= 1️⃣ DEFINITION MCQs ================= */
+
+    private MCQQuestion definitionMCQ(GenerationContext.SlidePlan slide, GenerationContext context, Random random) {
+        SentenceFeatures definition = slide.definition;
+        if (definition == null) return null;
+
+        String topic = slide.topic;
+
+        String question = "What is " + topic + "?";
+        List<String> options = new ArrayList<>();
+        options.add(definition.answer);
+
+        // Definitions elsewhere that read most like this one make the hardest distractors
+        for (SentenceFeatures close : context.closestFromOtherTopics(definition, topic, 2, true, options)) {
+            if (options.size() >= 3) break;
+            if (!options.contains(close.answer)) options.add(close.answer);
+        }
+
+        // Then definitions from other topics, one per topic
+        for (SentenceFeatures other : context.fromOtherTopics(topic, true, 3 - options.size(), options, random)) {
+            options.add(other.answer);
+        }
+
+        fillOptionsWithGenerated(options, topic, "definition", random);
+        Collections.shuffle(options, random);
+        int correctIndex = options.indexOf(definition.answer);
+        return buildQuestion(question, options, correctIndex, MCQQuestion.QuestionType.DEFINITION);
+    }
+
+    /* ================= 2️⃣ TRUE STATEMENT MCQs ================= */
+
+    private MCQQuestion trueStatementMCQ(GenerationContext.SlidePlan slide, Random random) {
+        List<SentenceFeatures> sentences = slide.sentences;
+        if (sentences.size() < 3) return null;
+
+        String topic = slide.topic;
+        String question = "Which statement is true about " + topic + "?";
+        List<SentenceFeatures> shuffled = new ArrayList<>(sentences);
+        Collections.shuffle(shuffled, random);
+        // Ranked slides show their three best sentences, in random order; ties stay shuffled
+        if (slide.ranked) {
+            shuffled.sort((a, b) -> a.ranksAbove(b) ? -1 : b.ranksAbove(a) ? 1 : 0);
+            Collections.shuffle(shuffled.subList(0, 3), random);
+        }
+
+        List<String> options = new ArrayList<>();
+        options.add(shuffled.get(0).answer);
+
+        if (shuffled.size() > 1) options.add(shuffled.get(1).answer);
+        if (shuffled.size() > 2) options.add(shuffled.get(2).answer);
+
+        while(options.size() < 4) {
+            String wrong = makeSimilarButWrong(shuffled.get(0).text, topic, random);
+            if(!options.contains(wrong)) {
+                options.add(wrong);
+            } else {
+                if(!options.contains("None of the above")) options.add("None of the above");
+                break;
+            }
+        }
+
+        Collections.shuffle(options, random);
+        int correctIndex = options.indexOf(shuffled.get(0).answer);
+        return buildQuestion(question, options, correctIndex, MCQQuestion.QuestionType.FACT);
+    }
+
+    /* ================= 3️⃣ NOT-TYPE MCQs ================= */
+
+    private MCQQuestion notTypeMCQ(GenerationContext.SlidePlan slide, GenerationContext context, Random random) {
+        List<SentenceFeatures> sentences = slide.sentences;
+        if (sentences.size() < 3) return null;
+
+        String topic = slide.topic;
+        String question = "Which of the following is NOT related to " + topic + "?";
+        List<String> options = new ArrayList<>();
+
+        for (int i = 0; i < 3 && i < sentences.size(); i++) {
+            options.add(sentences.get(i).answer);
+        }
+
+        String differentOption = null;
+        // Prefer the sentence from another topic closest to this slide's, then any other slide's first
+        List<String> ownAnswers = new ArrayList<>(sentences.size());
+        for (SentenceFeatures s : sentences) ownAnswers.add(s.answer);
+        for (SentenceFeatures close : context.closestFromOtherTopics(sentences.get(0), topic, 1, false, ownAnswers)) {
+            differentOption = close.answer;
+            options.add(differentOption);
+        }
+
+        if (options.size() < 4) {
+            for (SentenceFeatures other : context.fromOtherTopics(topic, false, 1, options, random)) {
+                differentOption = other.answer;
+                options.add(differentOption);
+            }
+        }
+
+        if (options.size() < 4 || differentOption == null) return null;
+
+        Collections.shuffle(options, random);
+        int correctIndex = options.indexOf(differentOption);
+        return buildQuestion(question, options, correctIndex, MCQQuestion.QuestionType.NOT_QUESTION);
+    }
+
+    /* ================= 4️⃣ FILL-IN-THE-BLANK MCQs ================= */
+
+    private MCQQuestion fillBlankMCQ(GenerationContext.SlidePlan slide, GenerationContext context, Random random) {
+        SentenceFeatures target = slide.blankTarget;
+        if (target == null || target.copulaStart < 0) return null;
+
+        String topic = slide.topic;
+        List<SentenceFeatures> sentences = slide.sentences;
+        String answer = target.text.substring(0, target.copulaStart).trim();
+        String restOfSentence = target.text.substring(target.copulaEnd).trim();
+        if (!restOfSentence.endsWith(".")) restOfSentence += ".";
+
+        String question = "_____ is " + restOfSentence;
+
+        List<String> options = new ArrayList<>();
+        options.add(answer);
+
+        for (int i = 0; i < sentences.size(); i++) {
+            if (options.size() >= 4) break;
+            if (!sentences.get(i).text.equals(target.text)) {
+                String keyword = slide.keywords.get(i);
+                if (keyword != null && !options.contains(keyword) && !keyword.equalsIgnoreCase(answer)) {
+                    options.add(keyword);
+                }
+            }
+        }
+
+        // Then keywords of sentences elsewhere in the deck that share a term with this one
+        if (options.size() < 4) {
+            for (String keyword : context.index.relatedKeywords(target, 4, RELATED_POSTINGS)) {
+                if (options.size() >= 4) break;
+                if (!options.contains(keyword) && !keyword.equalsIgnoreCase(answer)) options.add(keyword);
+            }
+        }
+
+        // Then any keyword of the deck, a few random tries before made-up ones
+        List<String> deckKeywords = context.index.keywords();
+        for (int tries = 0; tries < 4 && options.size() < 4 && !deckKeywords.isEmpty(); tries++) {
+            String keyword = deckKeywords.get(random.nextInt(deckKeywords.size()));
+            if (!options.contains(keyword) && !keyword.equalsIgnoreCase(answer)) options.add(keyword);
+        }
+
+        while (options.size() < 4) {
+            String fakeKeyword = generateMeaningfulKeyword(answer, topic, random);
+            if (!options.contains(fakeKeyword)) {
+                options.add(fakeKeyword);
+            } else {
+                if (!options.contains("None of the above")) {
+                    options.add("None of the above");
+                } else {
+                    break;
+                }
+            }
+        }
+
+        Collections.shuffle(options, random);
+        int correctIndex = options.indexOf(answer);
+        return buildQuestion(question, options, correctIndex, MCQQuestion.QuestionType.FILL_IN_BLANK);
+    }
+
+    /* ================= 5️⃣ FULL-FORM MCQs (PRIORITIZED & ROBUST) ================= */
+
+    private MCQQuestion fullFormMCQ(GenerationContext.SlidePlan slide, GenerationContext context, Random random) {
+        List<SentenceFeatures> sentences = slide.sentences;
+
+        String acronym = null;
+        String fullForm = null;
+
+        // Shuffle sentences to ensure if a slide has multiple acronyms,
+        // we don't always pick the same first one.
+        List<SentenceFeatures> shuffledSentences = new ArrayList<>(sentences);
+        Collections.shuffle(shuffledSentences, random);
+
+        for (SentenceFeatures s : shuffledSentences) {
+            // "MVC stands for Model-View-Controller" or "AJAX (Asynchronous JavaScript and XML)"
+            if (s.acronymForm != SentenceFeatures.AcronymForm.NONE) {
+                acronym = s.acronym();
+                fullForm = s.expansion();
+                break;
+            }
+        }
+
+        if (acronym == null || fullForm == null) return null;
+
+        String question = "What does " + acronym + " stand for?";
+        List<String> options = new ArrayList<>();
+        options.add(fullForm);
+
+        // The full form of another acronym in the deck with the same initial is as convincing as a made-up one
+        List<SentenceFeatures> sameInitial = context.index.acronymsStartingWith(Character.toUpperCase(acronym.charAt(0)));
+        if (!sameInitial.isEmpty()) {
+            SentenceFeatures other = sameInitial.get(random.nextInt(sameInitial.size()));
+            String otherForm = other.expansion();
+            if (!other.acronym().equals(acronym) && !otherForm.equalsIgnoreCase(fullForm)
+                    && !otherForm.equalsIgnoreCase(acronym)) {
+                options.add(otherForm);
+            }
+        }
+
+        // --- DECEPTIVE GENERATION (NO REPEAT "NONE OF ABOVE") ---
+        int attempts = 0;
+        while (options.size() < 4 && attempts < 50) {
+            String deceptive = generateDeceptiveFullForm(fullForm, random);
+
+            // Critical: Don't let the acronym itself be an option
+            if (deceptive.equalsIgnoreCase(acronym)) {
+                attempts++;
+                continue;
+            }
+
+            if (!deceptive.equalsIgnoreCase(fullForm) && !options.contains(deceptive)) {
+                options.add(deceptive);
+            }
+            attempts++;
+        }
+
+        // Only add None of the above if strict necessity
+        while(options.size() < 4) {
+            if(!options.contains("None of the above")) options.add("None of the above");
+            else break;
+        }
+
+        Collections.shuffle(options, random);
+        int correctIndex = options.indexOf(fullForm);
+
+        return buildQuestion(question, options, correctIndex, MCQQuestion.QuestionType.FACT);
+    }
+
+    /**
+     * GENERATES CONVINCING FAKE FULL FORMS
+     * Input: "Model View Controller" -> Output: "Module Virtual Connector"
+     */
+    private String generateDeceptiveFullForm(String correctFullForm, Random random) {
+        String[] words = correctFullForm.split("[\\s\\-]+");
+        StringBuilder deceptive = new StringBuilder();
+
+        boolean changeAll = random.nextBoolean();
+        int wordToChangeIndex = random.nextInt(words.length);
+
+        for (int i = 0; i < words.length; i++) {
+            String word = words[i];
+            String cleanWord = word.replaceAll("[^a-zA-Z]", "");
+
+            if (cleanWord.isEmpty()) {
+                deceptive.append(word);
+                continue;
+            }
+
+            boolean shouldChange = changeAll || (i == wordToChangeIndex);
+
+            if (shouldChange) {
+                char firstChar = Character.toUpperCase(cleanWord.charAt(0));
+                List<String> candidates = TECH_TERMS.get(firstChar);
+
+                if (candidates != null && !candidates.isEmpty()) {
+                    String replacement = candidates.get(random.nextInt(candidates.size()));
+                    if (replacement.equalsIgnoreCase(cleanWord)) {
+                        replacement = candidates.get(random.nextInt(candidates.size()));
+                    }
+                    deceptive.append(replacement);
+                } else {
+                    deceptive.append(word);
+                }
+            } else {
+                deceptive.append(word);
+            }
+
+            if (i < words.length - 1) {
+                if (correctFullForm.contains("-")) deceptive.append("-");
+                else deceptive.append(" ");
+            }
+        }
+        return deceptive.toString();
+    }
+
+    /* ================= HELPER METHODS ================= */
+
+    private void fillOptionsWithGenerated(List<String> options, String topic, String type, Random random) {
+        while (options.size() < 4) {
+            String filler;
+            if (type.equals("definition")) {
+                filler = generateConfusingDefinition(topic, options.get(0), random);
+            } else {
+                filler = generatePlausibleWrongAnswer(topic, random);
+            }
+
+            if (!options.contains(filler)) {
+                options.add(filler);
+            } else {
+                if (!options.contains("None of the above")) {
+                    options.add("None of the above");
+                }
+                break;
+            }
+        }
+    }
+
+    private String generateMeaningfulKeyword(String correctAnswer, String topic, Random random) {
+        String[] webTerms = {"Controller", "Model", "View", "Handler", "Service", "Component",
+                "Module", "Framework", "Pattern", "Interface", "Protocol", "Method",
+                "Request", "Response", "Client", "Server", "Browser", "Application",
+                "Database", "Session", "Cookie", "Authentication", "Validation"};
+        String generated;
+        int attempts = 0;
+        do {
+            generated = webTerms[random.nextInt(webTerms.length)];
+            attempts++;
+        } while (generated.equalsIgnoreCase(correctAnswer) && attempts < 10);
+        return generated;
+    }
+
+    private MCQQuestion buildQuestion(String question, List<String> options,
+                                      int correctIndex, MCQQuestion.QuestionType type) {
+        MCQQuestion mcq = new MCQQuestion();
+        mcq.setQuestion(question);
+        mcq.setOptions(options);
+        mcq.setCorrectAnswerIndex(correctIndex);
+        mcq.setType(type);
+        mcq.setDifficulty("MEDIUM");
+        String explanation = options.get(correctIndex);
+        if (!explanation.endsWith(".") && !explanation.equals("None of the above")) {
+            explanation += ".";
+        }
+        mcq.setExplanation(explanation);
+        return mcq;
+    }
+
+    private String makeSimilarButWrong(String correctStatement, String topic, Random random) {
+        String[] confusingVerbs = {"enables", "prevents", "limits", "restricts", "allows", "blocks"};
+        String[] confusingTerms = {"client", "server", "browser", "application", "system", "framework"};
+        String wrong = correctStatement;
+        if (random.nextBoolean() && wrong.contains(" is ")) {
+            int verbIndex = random.nextInt(confusingVerbs.length);
+            wrong = wrong.replaceFirst("(provides|allows|enables|prevents)", confusingVerbs[verbIndex]);
+        }
+        if (random.nextBoolean()) {
+            int termIndex = random.nextInt(confusingTerms.length);
+            wrong = wrong.replaceFirst("(client|server|browser|application)", confusingTerms[termIndex]);
+        }
+        return wrong;
+    }
+
+    private String generatePlausibleWrongAnswer(String topic, Random random) {
+        String[] patterns = {
+                topic + " primarily focuses on server-side operations",
+                topic + " is mainly used for database management",
+                topic + " handles only client-side rendering",
+                topic + " is designed for synchronous operations only",
+                topic + " requires manual page reloads",
+                topic + " works exclusively with XML data"
+        };
+        return patterns[random.nextInt(patterns.length)];
+    }
+
+    private String generateConfusingDefinition(String topic, String correctAnswer, Random random) {
+        String[] prefixes = {"A technique that ", "A framework for ", "A pattern used in ", "An approach to ", "A method for "};
+        String[] suffixes = {"managing application state", "handling user interactions", "organizing code structure", "improving performance", "enhancing security"};
+        return prefixes[random.nextInt(prefixes.length)] + suffixes[random.nextInt(suffixes.length)];
+    }
+}
\ No newline at end of file
@@ -6,6 +6,10 @@ import java.util.List;
 public class PPTContent {
     private String fileName;
     private List<SlideContent> slides;
+    // Sentence types and importance, set once the whole deck is loaded; null until then
+    private DeckAnalysis analysis;
+    // Keyword statistics gathered while the slides were read, or restored with the cached deck
+    private TermStats termStats;
 
     public PPTContent() {
         this.slides = new ArrayList<>();
@@ -36,6 +40,22 @@ public class PPTContent {
         this.slides.add(slide);
     }
 
+    public DeckAnalysis getAnalysis() {
+        return analysis;
+    }
+
+    public void setAnalysis(DeckAnalysis analysis) {
+        this.analysis = analysis;
+    }
+
+    public TermStats getTermStats() {
+        return termStats;
+    }
+
+    public void setTermStats(TermStats termStats) {
+        this.termStats = termStats;
+    }
+
     // Get all text content from all slides
     public List<String> getAllTextContent() {
         List<String> allText = new ArrayList<>();
@@ -0,0 +1,105 @@
+package com.student.learncraft;
+
+import org.xmlpull.v1.XmlPullParser;
+import org.xmlpull.v1.XmlPullParserException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+
+/**
+ * Cheap structural check that a file is a PPTX, without parsing any slides.
+ * Looks at the zip central directory and [Content_Types].xml only.
+ */
+public class PPTPackageSniffer {
+
+    static final String CONTENT_TYPES_PART = "[Content_Types].xml";
+
+    // Covers .pptx, .ppsx, .potx and their macro-enabled variants
+    private static final String PRESENTATION_TYPE_PREFIX = "application/vnd.";
+    private static final String PRESENTATION_TYPE_MARKER = ".presentationml.";
+    private static final String SLIDESHOW_TYPE_MARKER = "powerpoint.";
+
+    /**
+     * Sniffs a seekable file: reads the central directory and one small part
+     */
+    public static boolean isPresentation(FileChannel channel) throws IOException {
+        return isPresentation(ZipDirectory.read(channel));
+    }
+
+    public static boolean isPresentation(ZipDirectory zip) throws IOException {
+        ZipDirectory.Entry contentTypes = zip.getEntry(CONTENT_TYPES_PART);
+        if (contentTypes == null || zip.getEntry(PPTStreamReader.PRESENTATION_PART) == null) {
+            return false;
+        }
+
+        boolean hasSlide = false;
+        for (ZipDirectory.Entry entry : zip.getEntries()) {
+            if (PPTStreamReader.isSlidePart(entry.name)) {
+                hasSlide = true;
+                break;
+            }
+        }
+        if (!hasSlide) return false;
+
+        try (InputStream in = zip.open(contentTypes)) {
+            return declaresPresentation(in);
+        }
+    }
+
+    /**
+     * Fallback for providers that only hand out a stream (pipes, network documents).
+     * Walks the local headers; slide data is skipped, never parsed.
+     */
+    public static boolean isPresentation(InputStream inputStream) throws IOException {
+        boolean hasPresentation = false;
+        boolean hasSlide = false;
+        boolean typed = false;
+
+        ZipStreamWalker zip = new ZipStreamWalker(inputStream);
+        ZipStreamWalker.Entry entry;
+        while ((entry = zip.next()) != null) {
+            String name = entry.name;
+            if (CONTENT_TYPES_PART.equals(name)) {
+                typed = declaresPresentation(zip.open());
+            } else if (PPTStreamReader.PRESENTATION_PART.equals(name)) {
+                hasPresentation = true;
+            } else if (PPTStreamReader.isSlidePart(name)) {
+                hasSlide = true;
+            }
+
+            if (typed && hasPresentation && hasSlide) return true;
+        }
+        return false;
+    }
+
+    /**
+     * True if [Content_Types].xml maps /ppt/presentation.xml to a presentation main part
+     */
+    static boolean declaresPresentation(InputStream contentTypesXml) throws IOException {
+        try {
+            XmlPullParser parser = SlideXmlParser.newParser();
+            parser.setInput(contentTypesXml, "UTF-8");
+
+            int event = parser.getEventType();
+            while (event != XmlPullParser.END_DOCUMENT) {
+                if (event == XmlPullParser.START_TAG && "Override".equals(parser.getName())) {
+                    String partName = parser.getAttributeValue(null, "PartName");
+                    String contentType = parser.getAttributeValue(null, "ContentType");
+                    if (("/" + PPTStreamReader.PRESENTATION_PART).equals(partName) && contentType != null) {
+                        return isPresentationType(contentType);
+                    }
+                }
+                event = parser.next();
+            }
+        } catch (XmlPullParserException e) {
+            return false;
+        }
+        return false;
+    }
+
+    private static boolean isPresentationType(String contentType) {
+        return contentType.startsWith(PRESENTATION_TYPE_PREFIX)
+                && (contentType.contains(PRESENTATION_TYPE_MARKER) || contentType.contains(SLIDESHOW_TYPE_MARKER))
+                && contentType.endsWith(".main+xml");
+    }
+}
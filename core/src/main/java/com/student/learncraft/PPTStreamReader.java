@@ -0,0 +1,407 @@
+package com.student.learncraft;
+
+import org.xmlpull.v1.XmlPullParser;
+import org.xmlpull.v1.XmlPullParserException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Semaphore;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Reads slide text straight from the PPTX zip without building the POI object model.
+ * Peak memory depends on the largest slide, not on the whole deck.
+ */
+public class PPTStreamReader {
+
+    static final String PRESENTATION_PART = "ppt/presentation.xml";
+    static final String PRESENTATION_RELS_PART = "ppt/_rels/presentation.xml.rels";
+
+    private static final Pattern SLIDE_PART = Pattern.compile("ppt/slides/slide(\\d+)\\.xml");
+    private static final String NS_RELATIONSHIPS =
+            "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+
+    private IngestStats lastStats;
+
+    /**
+     * Reads a PPTX stream entry by entry and extracts all slide text.
+     * Only slide XML and the parts that order it are inflated; media, embedded
+     * objects and thumbnails are skipped as raw bytes.
+     * @param inputStream The raw PPTX bytes (not closed by this method)
+     * @return PPTContent with slides in deck order
+     */
+    public PPTContent read(InputStream inputStream, String fileName) throws IOException {
+        Map<String, PPTContent.SlideContent> slidesByPart = new HashMap<>();
+        List<String> slideIds = null;
+        Map<String, String> relationships = null;
+
+        SlideXmlParser slideParser = new SlideXmlParser();
+        ZipStreamWalker zip = new ZipStreamWalker(inputStream);
+
+        ZipStreamWalker.Entry entry;
+        while ((entry = zip.next()) != null) {
+            String name = entry.name;
+
+            if (isSlidePart(name)) {
+                // Keep empty slides as null so ordering still sees them
+                slidesByPart.put(name, slideParser.parse(zip.open()));
+            } else if (PRESENTATION_PART.equals(name)) {
+                slideIds = readSlideIds(zip.open());
+            } else if (PRESENTATION_RELS_PART.equals(name)) {
+                relationships = readRelationships(zip.open());
+            }
+        }
+        lastStats = zip.getStats();
+
+        PPTContent pptContent = new PPTContent(fileName);
+        for (String part : slideOrder(slidesByPart.keySet(), slideIds, relationships)) {
+            PPTContent.SlideContent slide = slidesByPart.get(part);
+            if (slide != null) {
+                pptContent.addSlide(slide);
+            }
+        }
+        return pptContent;
+    }
+
+    /**
+     * Receives slides in deck order as soon as each one is extracted
+     */
+    public interface SlideListener {
+        /**
+         * @param slide the extracted slide, or null if it had no usable text
+         * @param slidesRead slide parts processed so far, including empty ones
+         * @param totalSlides slide parts in the deck
+         */
+        void onSlideRead(PPTContent.SlideContent slide, int slidesRead, int totalSlides);
+    }
+
+    /**
+     * Reads slide parts through the zip's central directory, one after another
+     */
+    public PPTContent read(ZipDirectory zip, String fileName) throws IOException {
+        return read(zip, fileName, null);
+    }
+
+    public PPTContent read(ZipDirectory zip, String fileName, SlideListener listener) throws IOException {
+        SlideXmlParser slideParser = new SlideXmlParser();
+        PPTContent pptContent = new PPTContent(fileName);
+
+        List<ZipDirectory.Entry> entries = orderedSlideEntries(zip);
+        lastStats = statsFor(zip, entries);
+        int slidesRead = 0;
+        for (ZipDirectory.Entry entry : entries) {
+            PPTContent.SlideContent slide;
+            try (InputStream in = zip.open(entry)) {
+                slide = slideParser.parse(in);
+            }
+            if (slide != null) pptContent.addSlide(slide);
+            if (listener != null) listener.onSlideRead(slide, ++slidesRead, entries.size());
+        }
+        return pptContent;
+    }
+
+    /**
+     * Inflates and parses slide parts on the shared slide pool.
+     * Each slide is an independent zip entry, results are joined back in deck order.
+     */
+    public PPTContent readParallel(ZipDirectory zip, String fileName) throws IOException {
+        return readParallel(zip, fileName, null);
+    }
+
+    /**
+     * Parallel read that reports each slide as soon as it and every slide before it are done
+     */
+    public PPTContent readParallel(ZipDirectory zip, String fileName, SlideListener listener) throws IOException {
+        List<ZipDirectory.Entry> entries = orderedSlideEntries(zip);
+        lastStats = statsFor(zip, entries);
+
+        List<ForkJoinTask<PPTContent.SlideContent>> tasks = new ArrayList<>(entries.size());
+        for (ZipDirectory.Entry entry : entries) {
+            tasks.add(SlidePool.POOL.submit(() -> {
+                try (InputStream in = zip.open(entry)) {
+                    return SlidePool.parser().parse(in);
+                }
+            }));
+        }
+        return collect(fileName, tasks, listener);
+    }
+
+    /**
+     * Parallel mode for plain streams: entries still inflate in order,
+     * but slide XML parsing is spread over the slide pool.
+     * At most two slides per worker are buffered at once.
+     */
+    public PPTContent readParallel(InputStream inputStream, String fileName) throws IOException {
+        Map<String, ForkJoinTask<PPTContent.SlideContent>> tasksByPart = new HashMap<>();
+        List<String> slideIds = null;
+        Map<String, String> relationships = null;
+
+        Semaphore inFlight = new Semaphore(SlidePool.POOL.getParallelism() * 2);
+        ZipStreamWalker zip = new ZipStreamWalker(inputStream);
+
+        try {
+            ZipStreamWalker.Entry entry;
+            while ((entry = zip.next()) != null) {
+                String name = entry.name;
+
+                if (isSlidePart(name)) {
+                    byte[] slideXml = readAll(zip.open());
+                    inFlight.acquire();
+                    tasksByPart.put(name, SlidePool.POOL.submit(() -> {
+                        try {
+                            return SlidePool.parser().parse(new ByteArrayInputStream(slideXml));
+                        } finally {
+                            inFlight.release();
+                        }
+                    }));
+                } else if (PRESENTATION_PART.equals(name)) {
+                    slideIds = readSlideIds(zip.open());
+                } else if (PRESENTATION_RELS_PART.equals(name)) {
+                    relationships = readRelationships(zip.open());
+                }
+            }
+            lastStats = zip.getStats();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading slides", e);
+        }
+
+        List<ForkJoinTask<PPTContent.SlideContent>> tasks = new ArrayList<>();
+        for (String part : slideOrder(tasksByPart.keySet(), slideIds, relationships)) {
+            ForkJoinTask<PPTContent.SlideContent> task = tasksByPart.get(part);
+            // presentation.xml may list a slide the zip doesn't contain
+            if (task != null) tasks.add(task);
+        }
+        return collect(fileName, tasks, null);
+    }
+
+    /**
+     * Parts touched by the last read; everything else in the zip was never inflated
+     */
+    public IngestStats getLastStats() {
+        return lastStats;
+    }
+
+    /**
+     * Random access only opens the slides and the two ordering parts,
+     * so every other entry counts as skipped
+     */
+    private static IngestStats statsFor(ZipDirectory zip, List<ZipDirectory.Entry> slideEntries) {
+        Set<String> read = new HashSet<>();
+        for (ZipDirectory.Entry entry : slideEntries) read.add(entry.name);
+        if (zip.getEntry(PRESENTATION_PART) != null && zip.getEntry(PRESENTATION_RELS_PART) != null) {
+            read.add(PRESENTATION_PART);
+            read.add(PRESENTATION_RELS_PART);
+        }
+
+        IngestStats stats = new IngestStats();
+        for (ZipDirectory.Entry entry : zip.getEntries()) {
+            if (read.contains(entry.name)) {
+                stats.addRead(entry.compressedSize);
+            } else {
+                stats.addSkipped(entry.compressedSize);
+            }
+        }
+        return stats;
+    }
+
+    private static PPTContent collect(String fileName, List<ForkJoinTask<PPTContent.SlideContent>> tasks,
+                                      SlideListener listener) throws IOException {
+        PPTContent pptContent = new PPTContent(fileName);
+        try {
+            int slidesRead = 0;
+            for (ForkJoinTask<PPTContent.SlideContent> task : tasks) {
+                PPTContent.SlideContent slide = task.get();
+                if (slide != null) pptContent.addSlide(slide);
+                if (listener != null) listener.onSlideRead(slide, ++slidesRead, tasks.size());
+            }
+        } catch (InterruptedException e) {
+            for (ForkJoinTask<?> task : tasks) task.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading slides", e);
+        } catch (ExecutionException e) {
+            for (ForkJoinTask<?> task : tasks) task.cancel(true);
+            Throwable cause = e.getCause();
+            throw cause instanceof IOException ? (IOException) cause : new IOException(cause);
+        }
+        return pptContent;
+    }
+
+    /**
+     * Slide entries in deck order, read from presentation.xml through random access
+     */
+    static List<ZipDirectory.Entry> orderedSlideEntries(ZipDirectory zip) throws IOException {
+        List<String> slideParts = new ArrayList<>();
+        for (ZipDirectory.Entry entry : zip.getEntries()) {
+            if (isSlidePart(entry.name)) slideParts.add(entry.name);
+        }
+
+        List<String> slideIds = null;
+        Map<String, String> relationships = null;
+
+        ZipDirectory.Entry presentation = zip.getEntry(PRESENTATION_PART);
+        ZipDirectory.Entry presentationRels = zip.getEntry(PRESENTATION_RELS_PART);
+        if (presentation != null && presentationRels != null) {
+            try (InputStream in = zip.open(presentation)) {
+                slideIds = readSlideIds(in);
+            }
+            try (InputStream in = zip.open(presentationRels)) {
+                relationships = readRelationships(in);
+            }
+        }
+
+        List<ZipDirectory.Entry> ordered = new ArrayList<>();
+        for (String part : slideOrder(slideParts, slideIds, relationships)) {
+            ZipDirectory.Entry entry = zip.getEntry(part);
+            if (entry != null) ordered.add(entry);
+        }
+        return ordered;
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    static boolean isSlidePart(String name) {
+        return SLIDE_PART.matcher(name).matches();
+    }
+
+    /**
+     * Deck order comes from presentation.xml, slide part numbers are only a fallback
+     */
+    static List<String> slideOrder(Iterable<String> slideParts, List<String> slideIds,
+                                   Map<String, String> relationships) {
+        List<String> ordered = new ArrayList<>();
+
+        if (slideIds != null && relationships != null) {
+            for (String id : slideIds) {
+                String target = relationships.get(id);
+                if (target != null) {
+                    ordered.add(resolvePart("ppt/", target));
+                }
+            }
+        }
+
+        // Anything presentation.xml didn't mention goes at the end, by number
+        Set<String> seen = new HashSet<>(ordered);
+        List<String> leftovers = new ArrayList<>();
+        for (String part : slideParts) {
+            if (!seen.contains(part)) leftovers.add(part);
+        }
+        leftovers.sort((a, b) -> Integer.compare(slideNumber(a), slideNumber(b)));
+        ordered.addAll(leftovers);
+
+        return ordered;
+    }
+
+    static int slideNumber(String part) {
+        Matcher m = SLIDE_PART.matcher(part);
+        return m.matches() ? Integer.parseInt(m.group(1)) : Integer.MAX_VALUE;
+    }
+
+    static String resolvePart(String baseDir, String target) {
+        if (target.startsWith("/")) return target.substring(1);
+
+        String path = baseDir + target;
+        // Collapse "../" segments
+        List<String> segments = new ArrayList<>();
+        for (String segment : path.split("/")) {
+            if (segment.equals("..")) {
+                if (!segments.isEmpty()) segments.remove(segments.size() - 1);
+            } else if (!segment.isEmpty() && !segment.equals(".")) {
+                segments.add(segment);
+            }
+        }
+        return String.join("/", segments);
+    }
+
+    /**
+     * Reads the r:id of every p:sldId in presentation.xml, in deck order
+     */
+    static List<String> readSlideIds(InputStream presentationXml) throws IOException {
+        List<String> ids = new ArrayList<>();
+        try {
+            XmlPullParser parser = SlideXmlParser.newParser();
+            parser.setInput(presentationXml, "UTF-8");
+
+            int event = parser.getEventType();
+            while (event != XmlPullParser.END_DOCUMENT) {
+                if (event == XmlPullParser.START_TAG && "sldId".equals(parser.getName())
+                        && SlideXmlParser.NS_PRESENTATION.equals(parser.getNamespace())) {
+                    String id = parser.getAttributeValue(NS_RELATIONSHIPS, "id");
+                    if (id != null) ids.add(id);
+                } else if (event == XmlPullParser.END_TAG && "sldIdLst".equals(parser.getName())) {
+                    // Nothing after the slide list is needed
+                    break;
+                }
+                event = parser.next();
+            }
+        } catch (XmlPullParserException e) {
+            throw new IOException("Malformed presentation.xml: " + e.getMessage(), e);
+        }
+        return ids;
+    }
+
+    /**
+     * Reads relationship Id -> Target from a .rels part
+     */
+    static Map<String, String> readRelationships(InputStream relsXml) throws IOException {
+        Map<String, String> relationships = new HashMap<>();
+        try {
+            XmlPullParser parser = SlideXmlParser.newParser();
+            parser.setInput(relsXml, "UTF-8");
+
+            int event = parser.getEventType();
+            while (event != XmlPullParser.END_DOCUMENT) {
+                if (event == XmlPullParser.START_TAG && "Relationship".equals(parser.getName())) {
+                    String id = parser.getAttributeValue(null, "Id");
+                    String target = parser.getAttributeValue(null, "Target");
+                    if (id != null && target != null) relationships.put(id, target);
+                }
+                event = parser.next();
+            }
+        } catch (XmlPullParserException e) {
+            throw new IOException("Malformed relationships part: " + e.getMessage(), e);
+        }
+        return relationships;
+    }
+
+    /**
+     * Shared fork-join pool for slide parsing, one worker per core
+     */
+    static class SlidePool {
+        static final ForkJoinPool POOL =
+                new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors()));
+
+        // XmlPullParser isn't thread safe, so every worker keeps its own
+        private static final ThreadLocal<SlideXmlParser> PARSERS = ThreadLocal.withInitial(() -> {
+            try {
+                return new SlideXmlParser();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        static SlideXmlParser parser() {
+            return PARSERS.get();
+        }
+    }
+}
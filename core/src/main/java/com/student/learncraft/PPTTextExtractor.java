@@ -0,0 +1,119 @@
+package com.student.learncraft;
+
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.xslf.usermodel.*;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Slide text extraction on plain streams, files and channels.
+ * PPTReader adds the Android side (content URIs, private copies) on top of this.
+ */
+public class PPTTextExtractor {
+
+    private IngestStats lastStats;
+
+    /**
+     * Streams slide parts straight from the zip, entries in file order
+     * @param inputStream The raw PPTX bytes (not closed by this method)
+     */
+    public PPTContent read(InputStream inputStream, String fileName) throws IOException {
+        PPTStreamReader streamReader = new PPTStreamReader();
+        PPTContent content = streamReader.read(inputStream, fileName);
+        lastStats = streamReader.getLastStats();
+        return content;
+    }
+
+    /**
+     * Reads a deck on disk with random access, falling back to POI if the streaming reader fails
+     */
+    public PPTContent read(Path path, String fileName) throws IOException {
+        return read(path, fileName, null);
+    }
+
+    public PPTContent read(Path path, String fileName, PPTStreamReader.SlideListener listener) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return read(channel, fileName, listener);
+        } catch (IOException e) {
+            return readWithPOI(path, fileName, listener);
+        }
+    }
+
+    /**
+     * Inflates and parses slide parts of a seekable channel across all cores.
+     * The channel is not closed.
+     */
+    public PPTContent read(FileChannel channel, String fileName, PPTStreamReader.SlideListener listener) throws IOException {
+        PPTStreamReader streamReader = new PPTStreamReader();
+        PPTContent content = streamReader.readParallel(ZipDirectory.read(channel), fileName, listener);
+        lastStats = streamReader.getLastStats();
+        return content;
+    }
+
+    /**
+     * Reads a deck through POI, then hands its slides to the listener in deck order
+     */
+    public PPTContent readWithPOI(Path path, String fileName, PPTStreamReader.SlideListener listener) throws IOException {
+        lastStats = null;
+        PPTContent content = readWithPOI(path, fileName);
+        if (listener != null) {
+            int slideCount = content.getSlides().size();
+            for (int i = 0; i < slideCount; i++) {
+                listener.onSlideRead(content.getSlides().get(i), i + 1, slideCount);
+            }
+        }
+        return content;
+    }
+
+    /**
+     * Reads a deck through Apache POI's XMLSlideShow (builds the whole object model)
+     */
+    public PPTContent readWithPOI(Path path, String fileName) throws IOException {
+        PPTContent pptContent = new PPTContent(fileName);
+
+        // A File-backed package only inflates the parts POI touches,
+        // an InputStream forces POI to buffer the whole zip in memory
+        try (OPCPackage pkg = OPCPackage.open(path.toFile(), PackageAccess.READ);
+             XMLSlideShow ppt = new XMLSlideShow(pkg)) {
+
+            // Get all slides
+            List<XSLFSlide> slides = ppt.getSlides();
+
+            // Process each slide
+            for (XSLFSlide slide : slides) {
+                PPTContent.SlideContent slideContent = new PPTContent.SlideContent();
+
+                // Get all shapes (text boxes) in the slide
+                List<XSLFShape> shapes = slide.getShapes();
+
+                for (XSLFShape shape : shapes) {
+                    if (shape instanceof XSLFTextShape) {
+                        SlideXmlParser.applyShapeText(slideContent, ((XSLFTextShape) shape).getText());
+                    }
+                }
+
+                // Only add slide if it has content
+                if (slideContent.getTitle() != null || !slideContent.getContentPoints().isEmpty()) {
+                    pptContent.addSlide(slideContent);
+                }
+            }
+
+        } catch (Exception e) {
+            throw new IOException("Error reading PPT file: " + e.getMessage(), e);
+        }
+
+        return pptContent;
+    }
+
+    /**
+     * What the last streaming read inflated and skipped, or null if it went through POI
+     */
+    public IngestStats getLastStats() {
+        return lastStats;
+    }
+}
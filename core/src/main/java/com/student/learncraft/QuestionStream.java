@@ -0,0 +1,107 @@
+package com.student.learncraft;
+
+import java.io.Closeable;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Questions handed out one at a time while a background thread keeps a few built ahead.
+ * The quiz can start as soon as the first question exists.
+ */
+public class QuestionStream implements Iterator<MCQQuestion>, Closeable {
+
+    /**
+     * Builds the next question on the producer thread, or returns null when there are no more
+     */
+    interface Source {
+        MCQQuestion next();
+    }
+
+    // Marks the end of the stream in the buffer
+    private static final MCQQuestion END = new MCQQuestion();
+
+    private final BlockingQueue<MCQQuestion> buffer;
+    private final Thread producer;
+    private volatile RuntimeException failure;
+    // Reader side; QuizActivity waits on a helper thread but checks isReady() on the UI thread
+    private volatile MCQQuestion next;
+    private volatile boolean finished;
+
+    QuestionStream(Source source, int lookAhead) {
+        this.buffer = new ArrayBlockingQueue<>(Math.max(1, lookAhead));
+        this.producer = new Thread(() -> {
+            try {
+                MCQQuestion q;
+                while ((q = source.next()) != null) {
+                    buffer.put(q);
+                }
+            } catch (InterruptedException e) {
+                // Closed by the reader
+                return;
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+            try {
+                buffer.put(END);
+            } catch (InterruptedException ignored) {
+                // Closed by the reader
+            }
+        }, "question-stream");
+        producer.setDaemon(true);
+        producer.start();
+    }
+
+    /**
+     * Waits for the next question if none is built yet
+     */
+    @Override
+    public boolean hasNext() {
+        if (next != null) return true;
+        if (finished) return false;
+        try {
+            MCQQuestion q = buffer.take();
+            if (q == END) {
+                finished = true;
+                if (failure != null) throw failure;
+                return false;
+            }
+            next = q;
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Override
+    public MCQQuestion next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        MCQQuestion q = next;
+        next = null;
+        return q;
+    }
+
+    /**
+     * True if hasNext() and next() will answer without waiting
+     */
+    public boolean isReady() {
+        return next != null || finished || !buffer.isEmpty();
+    }
+
+    /**
+     * Stops the producer; questions already built are dropped.
+     * A reader waiting in hasNext() gets false.
+     */
+    @Override
+    public void close() {
+        finished = true;
+        next = null;
+        producer.interrupt();
+        // The interrupted producer may never queue END, so hand it to a waiting reader here
+        do {
+            buffer.clear();
+        } while (!buffer.offer(END));
+    }
+}
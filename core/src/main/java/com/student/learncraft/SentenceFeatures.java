@@ -0,0 +1,428 @@
+package com.student.learncraft;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One cleaned content point and everything the question builders ask about it.
+ * Worked out once per deck in a single scan of each sentence, so building a question never runs a regex.
+ */
+class SentenceFeatures {
+
+    enum AcronymForm {
+        NONE,
+        STANDS_FOR, // "MVC stands for Model View Controller"
+        PARENS      // "AJAX (Asynchronous JavaScript and XML)"
+    }
+
+    private static final String[] DEFINITION_VERBS = {"is a", "is the", "refers to", "means", "defined as"};
+    private static final String[] LOOSE_DEFINITION_VERBS = {"is an technique", "is an architectural"};
+    private static final String[] EXPANSION_PHRASES = {"stands for", "is short for", "full form is"};
+    private static final int[] EXPANSION_SKIP = {11, 13, 13};
+
+    private static final String[] GARBAGE_WORDS = {"the", "and", "for", "are", "but", "not", "you", "all", "can",
+            "her", "was", "one", "our", "out", "day", "get", "has", "him", "what", "when",
+            "his", "how", "its", "may", "new", "now", "old", "see", "two", "uses", "used",
+            "way", "who", "boy", "did", "let", "put", "say", "she", "too", "defined",
+            "use", "this", "that", "from", "they", "been", "have", "were"};
+
+    final String text;      // cleaned sentence, ends with punctuation
+    final String answer;    // text as an answer option
+    final int wordCount;
+    final String keyword;   // null if the sentence has no usable keyword
+
+    final boolean hasDefinitionVerb; // is a / is the / refers to / means / defined as
+    final boolean isDefinition;      // analyzed as DEFINITION; unanalyzed, the above or a looser phrasing
+    final boolean hasIsAre;          // "is" or "are" as a whole word
+    final int copulaStart;           // " is " / " are " the blank splits on, or -1
+    final int copulaEnd;
+    final boolean acronymHint;       // looks like it defines an acronym
+
+    final ContentAnalyzer.ContentType type; // from the deck's analysis, null if it wasn't analyzed
+    final int importance;                   // 1-5 from the analysis, 0 if it wasn't analyzed
+    final float weight;                     // mean TF-IDF of its keywords, 0 without term stats
+
+    final AcronymForm acronymForm;
+    final int acronymStart;          // first all-caps word, or -1
+    final int acronymEnd;
+    final int expansionStart;        // full form, or -1 if it couldn't be found
+    final int expansionEnd;
+
+    private SentenceFeatures(String text, ContentAnalyzer.AnalyzedContent analyzed, float weight) {
+        this.text = text;
+        this.answer = cleanAnswer(text);
+        this.wordCount = countWords(text);
+        this.keyword = extractKeyword(text);
+        this.type = analyzed != null ? analyzed.type : null;
+        this.importance = analyzed != null ? analyzed.importance : 0;
+        this.weight = weight;
+
+        this.hasDefinitionVerb = containsAny(text, DEFINITION_VERBS);
+        // The analysis decides when there is one; the phrase scan is the fallback
+        this.isDefinition = analyzed != null
+                ? analyzed.type == ContentAnalyzer.ContentType.DEFINITION
+                : hasDefinitionVerb || containsAny(text, LOOSE_DEFINITION_VERBS);
+        this.hasIsAre = hasWord(text, "is") || hasWord(text, "are");
+
+        int copula = -1;
+        int copulaLength = 0;
+        for (int i = 0; i < text.length() && copula < 0; i++) {
+            if (text.charAt(i) != ' ') continue;
+            if (regionMatches(text, i + 1, "is ")) {
+                copula = i;
+                copulaLength = 4;
+            } else if (regionMatches(text, i + 1, "are ")) {
+                copula = i;
+                copulaLength = 5;
+            }
+        }
+        this.copulaStart = copula;
+        this.copulaEnd = copula < 0 ? -1 : copula + copulaLength;
+
+        // Letter-only words (two or more letters) the acronym patterns anchor on
+        int firstWordEnd = -1;
+        boolean parensAfterWord = false;
+        boolean strictParensAfterWord = false;
+        int pos = 0;
+        while (pos < text.length()) {
+            if (!isWordChar(text.charAt(pos))) {
+                pos++;
+                continue;
+            }
+            int start = pos;
+            boolean lettersOnly = true;
+            while (pos < text.length() && isWordChar(text.charAt(pos))) {
+                if (!isAsciiLetter(text.charAt(pos))) lettersOnly = false;
+                pos++;
+            }
+            if (!lettersOnly || pos - start < 2) continue;
+
+            if (firstWordEnd < 0) firstWordEnd = pos;
+            int paren = pos;
+            while (paren < text.length() && isSpace(text.charAt(paren))) paren++;
+            if (paren < text.length() && text.charAt(paren) == '(') {
+                parensAfterWord |= parenthesisedWord(text, paren);
+                strictParensAfterWord |= parenthesisedPhrase(text, paren);
+            }
+        }
+
+        int lastPhrase = -1;
+        for (String phrase : EXPANSION_PHRASES) {
+            lastPhrase = Math.max(lastPhrase, lastIndexOf(text, phrase));
+        }
+        boolean standsFor = firstWordEnd >= 0 && lastPhrase >= firstWordEnd;
+        this.acronymHint = standsFor || parensAfterWord;
+
+        // First all-caps word, as the builders pick it
+        int capsStart = -1;
+        int capsEnd = -1;
+        for (int start = 0; start < text.length() && capsStart < 0; ) {
+            int end = text.indexOf(' ', start);
+            if (end < 0) end = text.length();
+            if (isCapsWord(text, start, end)) {
+                capsStart = start;
+                capsEnd = end;
+            }
+            start = end + 1;
+        }
+
+        AcronymForm form = AcronymForm.NONE;
+        int expStart = -1;
+        int expEnd = -1;
+        if (standsFor && capsStart >= 0) {
+            form = AcronymForm.STANDS_FOR;
+            for (int p = 0; p < EXPANSION_PHRASES.length; p++) {
+                int index = indexOf(text, EXPANSION_PHRASES[p]);
+                if (index >= 0) {
+                    expStart = Math.min(index + EXPANSION_SKIP[p], text.length());
+                    break;
+                }
+            }
+            expEnd = text.length();
+            while (expStart < expEnd && text.charAt(expStart) <= ' ') expStart++;
+            while (expEnd > expStart && text.charAt(expEnd - 1) <= ' ') expEnd--;
+            if (expEnd > expStart && text.charAt(expEnd - 1) == '.') expEnd--;
+        } else if (strictParensAfterWord && capsStart >= 0) {
+            form = AcronymForm.PARENS;
+            int open = text.indexOf('(');
+            int close = text.indexOf(')');
+            if (open != -1 && close != -1 && close > open) {
+                int start = open + 1;
+                int end = close;
+                while (start < end && text.charAt(start) <= ' ') start++;
+                while (end > start && text.charAt(end - 1) <= ' ') end--;
+                // Ensure the full form is reasonably long (avoids "ID (User)")
+                if (end - start > 3) {
+                    expStart = start;
+                    expEnd = end;
+                }
+            }
+        }
+        this.acronymForm = form;
+        this.acronymStart = form == AcronymForm.NONE ? -1 : capsStart;
+        this.acronymEnd = form == AcronymForm.NONE ? -1 : capsEnd;
+        this.expansionStart = expStart;
+        this.expansionEnd = expEnd;
+    }
+
+    /**
+     * Features of every usable content point, in order
+     */
+    static List<SentenceFeatures> of(List<String> contentPoints) {
+        return of(contentPoints, null, null);
+    }
+
+    /**
+     * Same, carrying over the analysis and TF-IDF score of each content point
+     * @param analyzed aligned with contentPoints, or null if the slide wasn't analyzed
+     * @param weights aligned with contentPoints, or null without term stats
+     */
+    static List<SentenceFeatures> of(List<String> contentPoints, List<ContentAnalyzer.AnalyzedContent> analyzed,
+                                     float[] weights) {
+        List<SentenceFeatures> features = new ArrayList<>(contentPoints.size());
+        for (int i = 0; i < contentPoints.size(); i++) {
+            String cleaned = clean(contentPoints.get(i));
+            if (cleaned != null) {
+                features.add(new SentenceFeatures(cleaned, analyzed != null ? analyzed.get(i) : null,
+                        weights != null ? weights[i] : 0f));
+            }
+        }
+        return features;
+    }
+
+    /**
+     * True if this sentence should be asked about before the other: more important, then more informative
+     */
+    boolean ranksAbove(SentenceFeatures other) {
+        return importance != other.importance ? importance > other.importance : weight > other.weight;
+    }
+
+    String acronym() {
+        return acronymStart < 0 ? null : text.substring(acronymStart, acronymEnd);
+    }
+
+    String expansion() {
+        return expansionStart < 0 ? null : text.substring(expansionStart, expansionEnd);
+    }
+
+    /**
+     * Drops markup, fragments and short lines; normalizes spacing and end punctuation.
+     * @return the cleaned sentence, or null if it isn't usable
+     */
+    static String clean(String s) {
+        if (hasBrackets(s) || s.trim().isEmpty()) return null;
+        if (s.length() < 15) return null;
+        s = stripBullet(collapseSpaces(s).trim());
+        if (countWords(s) < 4) return null;
+        if (!s.endsWith(".") && !s.endsWith("?") && !s.endsWith("!")) {
+            s += ".";
+        }
+        return s;
+    }
+
+    static String cleanAnswer(String text) {
+        if (text == null || text.isEmpty()) return "";
+        text = stripBullet(collapseSpaces(text).trim());
+
+        int end = text.length();
+        while (end > 0 && ".:;,!?".indexOf(text.charAt(end - 1)) >= 0) end--;
+
+        // At most 12 words
+        int words = 0;
+        for (int i = 0; i < end; i++) {
+            if (text.charAt(i) == ' ' && i + 1 < end && ++words == 12) {
+                end = i;
+                break;
+            }
+        }
+        return text.substring(0, end).trim();
+    }
+
+    static String extractKeyword(String sentence) {
+        String first = null;
+        int start = 0;
+        while (start <= sentence.length()) {
+            int end = sentence.indexOf(' ', start);
+            if (end < 0) end = sentence.length();
+            String w = alphanumeric(sentence, start, end);
+            if (first == null) first = w;
+            if (w.length() > 3 && Character.isUpperCase(w.charAt(0)) && isMeaningfulKeyword(w)) {
+                return w;
+            }
+            start = end + 1;
+        }
+        if (first != null && isMeaningfulKeyword(first)) {
+            return first;
+        }
+        return null;
+    }
+
+    static boolean isMeaningfulKeyword(String word) {
+        if (word == null || word.length() < 3) return false;
+        for (String g : GARBAGE_WORDS) {
+            if (word.equalsIgnoreCase(g)) return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            if (isAsciiLetter(word.charAt(i))) return true;
+        }
+        return false;
+    }
+
+    /* ================= SCANNING HELPERS ================= */
+
+    // Runs of whitespace become one space
+    private static String collapseSpaces(String s) {
+        StringBuilder out = null;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (!isSpace(c)) {
+                if (out != null) out.append(c);
+                continue;
+            }
+            int end = i + 1;
+            while (end < s.length() && isSpace(s.charAt(end))) end++;
+            if (out == null) {
+                if (c == ' ' && end == i + 1) continue; // already a single space
+                out = new StringBuilder(s.length()).append(s, 0, i);
+            }
+            out.append(' ');
+            i = end - 1;
+        }
+        return out == null ? s : out.toString();
+    }
+
+    // Leading "*", "-" or "•" markers and the space after them
+    private static String stripBullet(String s) {
+        int i = 0;
+        while (i < s.length() && (s.charAt(i) == '*' || s.charAt(i) == '-' || s.charAt(i) == '•')) i++;
+        if (i == 0) return s;
+        while (i < s.length() && isSpace(s.charAt(i))) i++;
+        return s.substring(i);
+    }
+
+    private static String alphanumeric(String s, int start, int end) {
+        StringBuilder out = new StringBuilder(end - start);
+        for (int i = start; i < end; i++) {
+            char c = s.charAt(i);
+            if (isAsciiLetter(c) || (c >= '0' && c <= '9')) out.append(c);
+        }
+        return out.toString();
+    }
+
+    private static boolean hasBrackets(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            switch (s.charAt(i)) {
+                case '<': case '>': case '{': case '}': case '[': case ']':
+                    return true;
+            }
+        }
+        return false;
+    }
+
+    // Words in a whitespace-normalized sentence
+    private static int countWords(String s) {
+        if (s.isEmpty()) return 1; // "".split() gives one empty word
+        int words = 1;
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) == ' ') words++;
+        }
+        return words;
+    }
+
+    /**
+     * "(" then a word of two or more letters, with a ")" somewhere after it
+     */
+    private static boolean parenthesisedWord(String s, int open) {
+        int i = open + 1;
+        int letters = 0;
+        while (i < s.length() && isAsciiLetter(s.charAt(i))) {
+            letters++;
+            i++;
+        }
+        return letters >= 2 && s.indexOf(')', i) >= 0;
+    }
+
+    /**
+     * "(" then a letter, then letters and spaces only, up to ")"
+     */
+    private static boolean parenthesisedPhrase(String s, int open) {
+        int i = open + 1;
+        if (i >= s.length() || !isAsciiLetter(s.charAt(i))) return false;
+        i++;
+        int start = i;
+        while (i < s.length() && (isAsciiLetter(s.charAt(i)) || isSpace(s.charAt(i)))) i++;
+        return i > start && i < s.length() && s.charAt(i) == ')';
+    }
+
+    private static boolean isCapsWord(String s, int start, int end) {
+        if (end - start < 2) return false;
+        for (int i = start; i < end; i++) {
+            char c = s.charAt(i);
+            if (c < 'A' || c > 'Z') return false;
+        }
+        return true;
+    }
+
+    private static boolean hasWord(String s, String word) {
+        int from = 0;
+        int index;
+        while ((index = indexOf(s, word, from)) >= 0) {
+            int end = index + word.length();
+            boolean startsWord = index == 0 || !isWordChar(s.charAt(index - 1));
+            boolean endsWord = end == s.length() || !isWordChar(s.charAt(end));
+            if (startsWord && endsWord) return true;
+            from = index + 1;
+        }
+        return false;
+    }
+
+    private static boolean containsAny(String s, String[] phrases) {
+        for (String phrase : phrases) {
+            if (indexOf(s, phrase) >= 0) return true;
+        }
+        return false;
+    }
+
+    private static int indexOf(String s, String phrase) {
+        return indexOf(s, phrase, 0);
+    }
+
+    // Case-insensitive for ASCII, like (?i) in the regexes this replaces
+    private static int indexOf(String s, String phrase, int from) {
+        for (int i = from; i + phrase.length() <= s.length(); i++) {
+            if (regionMatches(s, i, phrase)) return i;
+        }
+        return -1;
+    }
+
+    private static int lastIndexOf(String s, String phrase) {
+        for (int i = s.length() - phrase.length(); i >= 0; i--) {
+            if (regionMatches(s, i, phrase)) return i;
+        }
+        return -1;
+    }
+
+    private static boolean regionMatches(String s, int offset, String phrase) {
+        if (offset + phrase.length() > s.length()) return false;
+        for (int i = 0; i < phrase.length(); i++) {
+            if (lower(s.charAt(offset + i)) != phrase.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    private static char lower(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
+    }
+}
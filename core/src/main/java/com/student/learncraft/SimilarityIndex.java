@@ -0,0 +1,183 @@
+package com.student.learncraft;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * MinHash signatures for every sentence of a DeckIndex, banded into an LSH table.
+ * Finding the sentences that read most like a given one only looks at its buckets,
+ * never at the whole deck.
+ */
+class SimilarityIndex {
+
+    /**
+     * Decides whether a sentence ID may be returned
+     */
+    interface Filter {
+        boolean accept(int id);
+    }
+
+    private static final int BANDS = 8;
+    private static final int ROWS = 4;
+    private static final int HASHES = BANDS * ROWS;
+    private static final int MAX_PER_BUCKET = 32;
+
+    private static final int[] SEEDS = new int[HASHES];
+
+    static {
+        // Fixed odd multipliers: signatures are the same on every run
+        long state = 0x9E3779B97F4A7C15L;
+        for (int i = 0; i < HASHES; i++) {
+            state += 0x9E3779B97F4A7C15L;
+            SEEDS[i] = (int) mix64(state) | 1;
+        }
+    }
+
+    private final DeckIndex index;
+    private final int[] signatures;   // HASHES ints per sentence
+    // No word long enough to hash: the signature is all MAX_VALUE and would match every other such sentence
+    private final boolean[] unsigned;
+    // Per band: (band hash << 32 | sentence ID), sorted, so each bucket is one contiguous run in deck order
+    private final long[][] bands;
+
+    SimilarityIndex(DeckIndex index) {
+        this.index = index;
+        int count = index.sentenceCount();
+        signatures = new int[count * HASHES];
+        unsigned = new boolean[count];
+        int signed = 0;
+        for (int id = 0; id < count; id++) {
+            unsigned[id] = !sign(index.sentence(id).text, signatures, id * HASHES);
+            if (!unsigned[id]) signed++;
+        }
+
+        // Unsigned sentences are left out of the buckets
+        bands = new long[BANDS][signed];
+        for (int band = 0; band < BANDS; band++) {
+            long[] entries = bands[band];
+            int next = 0;
+            for (int id = 0; id < count; id++) {
+                if (!unsigned[id]) entries[next++] = ((long) bandHash(id, band) << 32) | id;
+            }
+            Arrays.sort(entries);
+        }
+    }
+
+    /**
+     * Up to k sentences that share an LSH bucket with the target, most similar first.
+     * Sentences with the same text as the target are never returned, and a target without
+     * a word of three or more characters has no neighbours.
+     */
+    List<Integer> similar(int target, int k, Filter filter) {
+        if (unsigned[target]) return new ArrayList<>();
+
+        Set<Integer> seen = new HashSet<>();
+        List<int[]> scored = new ArrayList<>();   // {id, estimated similarity in 1/HASHES}
+        String text = index.sentence(target).text;
+
+        for (int band = 0; band < BANDS; band++) {
+            long[] entries = bands[band];
+            long bucket = (long) bandHash(target, band) << 32;
+            int start = firstAtLeast(entries, bucket);
+            // IDs are non-negative ints, so every entry of the bucket is below this
+            int size = firstAtLeast(entries, bucket + 0x80000000L) - start;
+            // Very common phrasings fill big buckets; only a window of them is looked at so a query
+            // stays bounded. The window starts where the target hashes to, so early slides aren't favoured.
+            int first = size > MAX_PER_BUCKET ? Math.floorMod(mix32(target * SEEDS[band]), size) : 0;
+            for (int j = 0; j < size && j < MAX_PER_BUCKET; j++) {
+                int id = (int) entries[start + (first + j) % size];
+                if (id == target || !seen.add(id)) continue;
+                if (index.sentence(id).text.equals(text) || !filter.accept(id)) continue;
+                scored.add(new int[]{id, agreement(target, id)});
+            }
+        }
+
+        // Closest first; ties keep deck order
+        scored.sort((a, b) -> a[1] != b[1] ? Integer.compare(b[1], a[1]) : Integer.compare(a[0], b[0]));
+        List<Integer> result = new ArrayList<>(Math.min(k, scored.size()));
+        for (int i = 0; i < scored.size() && i < k; i++) {
+            result.add(scored.get(i)[0]);
+        }
+        return result;
+    }
+
+    // Matching signature slots; out of HASHES this estimates the Jaccard similarity of the word sets
+    private int agreement(int a, int b) {
+        int same = 0;
+        int offsetA = a * HASHES;
+        int offsetB = b * HASHES;
+        for (int i = 0; i < HASHES; i++) {
+            if (signatures[offsetA + i] == signatures[offsetB + i]) same++;
+        }
+        return same;
+    }
+
+    private int bandHash(int id, int band) {
+        int hash = band;
+        int offset = id * HASHES + band * ROWS;
+        for (int row = 0; row < ROWS; row++) {
+            hash = hash * 31 + signatures[offset + row];
+        }
+        return hash;
+    }
+
+    private static int firstAtLeast(long[] entries, long value) {
+        int low = 0;
+        int high = entries.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (entries[mid] < value) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    // Min over the sentence's lowercased words (3+ letters/digits) for each hash function;
+    // false if there was no such word
+    private static boolean sign(String text, int[] out, int offset) {
+        for (int i = 0; i < HASHES; i++) out[offset + i] = Integer.MAX_VALUE;
+        boolean any = false;
+
+        int length = text.length();
+        int pos = 0;
+        while (pos < length) {
+            while (pos < length && !isWordChar(text.charAt(pos))) pos++;
+            int start = pos;
+            int word = 0;
+            while (pos < length && isWordChar(text.charAt(pos))) {
+                char c = text.charAt(pos++);
+                word = word * 31 + (c >= 'A' && c <= 'Z' ? c + 32 : c);
+            }
+            if (pos - start < 3) continue;
+
+            any = true;
+            for (int i = 0; i < HASHES; i++) {
+                int h = mix32(word * SEEDS[i]);
+                if (h < out[offset + i]) out[offset + i] = h;
+            }
+        }
+        return any;
+    }
+
+    private static boolean isWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    private static int mix32(int h) {
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,138 @@
+package com.student.learncraft;
+
+import org.xmlpull.v1.XmlPullParser;
+import org.xmlpull.v1.XmlPullParserException;
+import org.xmlpull.v1.XmlPullParserFactory;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Pulls the text out of a single slide part (ppt/slides/slideN.xml).
+ * Only the text runs are kept, so memory stays bounded by one slide.
+ */
+public class SlideXmlParser {
+
+    static final String NS_PRESENTATION = "http://schemas.openxmlformats.org/presentationml/2006/main";
+    static final String NS_DRAWING = "http://schemas.openxmlformats.org/drawingml/2006/main";
+
+    private final XmlPullParser parser;
+
+    public SlideXmlParser() throws IOException {
+        this.parser = newParser();
+    }
+
+    /**
+     * Parses one slide part and applies the same title/bullet rules as the POI reader.
+     * @return the slide, or null if it has no usable text
+     */
+    public PPTContent.SlideContent parse(InputStream slideXml) throws IOException {
+        PPTContent.SlideContent slideContent = new PPTContent.SlideContent();
+
+        try {
+            parser.setInput(slideXml, "UTF-8");
+
+            int treeDepth = -1;      // depth of <p:spTree>
+            boolean inShape = false; // inside a top level <p:sp>
+            boolean inText = false;  // inside <a:t>
+            StringBuilder shapeText = new StringBuilder();
+            StringBuilder paragraph = new StringBuilder();
+
+            int event = parser.getEventType();
+            while (event != XmlPullParser.END_DOCUMENT) {
+                if (event == XmlPullParser.START_TAG) {
+                    String name = parser.getName();
+                    String ns = parser.getNamespace();
+
+                    if (treeDepth == -1 && NS_PRESENTATION.equals(ns) && "spTree".equals(name)) {
+                        treeDepth = parser.getDepth();
+                    } else if (treeDepth != -1 && parser.getDepth() == treeDepth + 1
+                            && NS_PRESENTATION.equals(ns) && "sp".equals(name)) {
+                        // Only top level shapes, like XSLFSlide.getShapes()
+                        inShape = true;
+                        shapeText.setLength(0);
+                    } else if (inShape && NS_DRAWING.equals(ns)) {
+                        if ("p".equals(name)) {
+                            paragraph.setLength(0);
+                        } else if ("t".equals(name)) {
+                            inText = true;
+                        } else if ("br".equals(name)) {
+                            paragraph.append('\n');
+                        }
+                    }
+                } else if (event == XmlPullParser.TEXT) {
+                    if (inText) {
+                        paragraph.append(parser.getText());
+                    }
+                } else if (event == XmlPullParser.END_TAG) {
+                    String name = parser.getName();
+                    String ns = parser.getNamespace();
+
+                    if (inShape && NS_DRAWING.equals(ns)) {
+                        if ("t".equals(name)) {
+                            inText = false;
+                        } else if ("p".equals(name)) {
+                            // Same joining as XSLFTextShape.getText()
+                            if (shapeText.length() > 0) shapeText.append('\n');
+                            shapeText.append(paragraph);
+                        }
+                    } else if (inShape && NS_PRESENTATION.equals(ns) && "sp".equals(name)
+                            && parser.getDepth() == treeDepth + 1) {
+                        inShape = false;
+                        applyShapeText(slideContent, shapeText.toString());
+                    } else if (NS_PRESENTATION.equals(ns) && "spTree".equals(name)
+                            && parser.getDepth() == treeDepth) {
+                        break;
+                    }
+                }
+                event = parser.next();
+            }
+        } catch (XmlPullParserException e) {
+            throw new IOException("Malformed slide XML: " + e.getMessage(), e);
+        }
+
+        // Only keep slide if it has content
+        if (slideContent.getTitle() != null || !slideContent.getContentPoints().isEmpty()) {
+            return slideContent;
+        }
+        return null;
+    }
+
+    /**
+     * Title/bullet rules shared by every reader.
+     * First significant text is the title, everything after it becomes bullet points.
+     */
+    static void applyShapeText(PPTContent.SlideContent slideContent, String text) {
+        // Skip empty text
+        if (text == null || text.trim().isEmpty()) {
+            return;
+        }
+
+        text = text.trim();
+
+        // First significant text is usually the title
+        if (slideContent.getTitle() == null && text.length() > 3) {
+            slideContent.setTitle(text);
+        } else {
+            // Split by newlines and add as bullet points
+            String[] lines = text.split("\n");
+            for (String line : lines) {
+                line = line.trim();
+                if (!line.isEmpty() && line.length() > 3) {
+                    // Remove bullet point symbols
+                    line = line.replaceAll("^[•·∙◦▪▫-]\\s*", "");
+                    slideContent.addContentPoint(line);
+                }
+            }
+        }
+    }
+
+    static XmlPullParser newParser() throws IOException {
+        try {
+            XmlPullParserFactory factory = XmlPullParserFactory.newInstance();
+            factory.setNamespaceAware(true);
+            return factory.newPullParser();
+        } catch (XmlPullParserException e) {
+            throw new IOException("No XML pull parser available: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package com.student.learncraft;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Term statistics for a deck: in how many slides each keyword appears, and a TF-IDF
+ * vector per content point. Slides are added one at a time as they are extracted,
+ * and DeckCodec stores the counts with the parsed deck.
+ *
+ * Terms are the keywords KeywordTokenizer finds. Everything is kept in int and float
+ * arrays, and the sentence scores are worked out once after the last change,
+ * so reading one is a lookup.
+ */
+public class TermStats {
+
+    private static final int[] NO_TERMS = new int[0];
+
+    private final List<PPTContent.SlideContent> slides = new ArrayList<>();
+    // Per slide, per content point: term ID, count, term ID, count, ... by term ID
+    private final List<int[][]> vectors = new ArrayList<>();
+
+    // Open addressing table: term -> ID
+    private String[] keys = new String[256];
+    private int[] ids = new int[256];
+    private String[] terms = new String[64];
+    private int termCount;
+    private int[] documentFrequency = new int[64];
+    private int[] lastCounted = new int[64];   // last slide (1-based) that counted each term
+
+    // Sentence scores, recomputed when slides were added since the last read
+    private List<float[]> scores = Collections.emptyList();
+    private int scoredSlides = -1;
+
+    private final KeywordTokenizer tokenizer = new KeywordTokenizer();
+    private int[] scratch = new int[64];
+    private int scratchSize;
+
+    public TermStats() {
+    }
+
+    /**
+     * Stats for a deck that is already complete
+     */
+    public static TermStats of(List<PPTContent.SlideContent> slides) {
+        TermStats stats = new TermStats();
+        for (PPTContent.SlideContent slide : slides) {
+            stats.addSlide(slide);
+        }
+        return stats;
+    }
+
+    /**
+     * Counts one more slide; slides must be added in deck order
+     */
+    public synchronized void addSlide(PPTContent.SlideContent slide) {
+        List<String> points = slide.getContentPoints();
+        int[][] slideVectors = new int[points.size()][];
+
+        for (int p = 0; p < points.size(); p++) {
+            String text = points.get(p);
+            if (text == null) {
+                slideVectors[p] = NO_TERMS;
+                continue;
+            }
+            scratchSize = 0;
+            tokenizer.forEach(text, (normalized, length, start, end) -> {
+                if (scratchSize == scratch.length) scratch = Arrays.copyOf(scratch, scratchSize * 2);
+                scratch[scratchSize++] = idOf(normalized, length);
+            });
+            slideVectors[p] = vector(scratch, scratchSize);
+        }
+
+        // Document frequency goes up once per slide, however many of its points use the term
+        int slideNumber = slides.size() + 1;
+        for (int[] vector : slideVectors) {
+            for (int i = 0; i < vector.length; i += 2) {
+                int id = vector[i];
+                if (lastCounted[id] != slideNumber) {
+                    lastCounted[id] = slideNumber;
+                    documentFrequency[id]++;
+                }
+            }
+        }
+
+        slides.add(slide);
+        vectors.add(slideVectors);
+    }
+
+    public synchronized int getSlideCount() {
+        return slides.size();
+    }
+
+    public synchronized int getTermCount() {
+        return termCount;
+    }
+
+    /**
+     * Number of slides that contain the keyword (normalized like the analyzer's keywords)
+     */
+    public synchronized int documentFrequency(String term) {
+        char[] chars = term.toCharArray();
+        int slot = find(chars, chars.length);
+        return keys[slot] != null ? documentFrequency[ids[slot]] : 0;
+    }
+
+    /**
+     * Information score of each content point of the slide at this position: the mean TF-IDF
+     * of its keywords, 0 for points without any.
+     * @return null if that slide wasn't counted or has changed since
+     */
+    synchronized float[] scoresFor(int index, PPTContent.SlideContent slide) {
+        if (index < 0 || index >= slides.size() || slides.get(index) != slide) return null;
+        if (vectors.get(index).length != slide.getContentPoints().size()) return null;
+        if (scoredSlides != slides.size()) score();
+        return scores.get(index);
+    }
+
+    /**
+     * True if these are the stats of exactly this deck's slides
+     */
+    public synchronized boolean matches(List<PPTContent.SlideContent> deck) {
+        if (deck.size() != slides.size()) return false;
+        for (int i = 0; i < deck.size(); i++) {
+            if (deck.get(i) != slides.get(i)) return false;
+        }
+        return true;
+    }
+
+    // Smoothed IDF over slides; scores change as slides come in, so they're redone lazily
+    private void score() {
+        int documents = slides.size();
+        float[] idf = new float[termCount];
+        for (int id = 0; id < termCount; id++) {
+            idf[id] = (float) Math.log((1.0 + documents) / (1.0 + documentFrequency[id])) + 1f;
+        }
+
+        List<float[]> scores = new ArrayList<>(vectors.size());
+        for (int[][] slideVectors : vectors) {
+            float[] slideScores = new float[slideVectors.length];
+            for (int p = 0; p < slideVectors.length; p++) {
+                int[] vector = slideVectors[p];
+                float sum = 0;
+                int total = 0;
+                for (int i = 0; i < vector.length; i += 2) {
+                    sum += vector[i + 1] * idf[vector[i]];
+                    total += vector[i + 1];
+                }
+                slideScores[p] = total == 0 ? 0 : sum / total;
+            }
+            scores.add(slideScores);
+        }
+        this.scores = scores;
+        scoredSlides = documents;
+    }
+
+    // Sorted (term ID, count) pairs of the IDs collected for one content point
+    private static int[] vector(int[] termIds, int size) {
+        if (size == 0) return NO_TERMS;
+        Arrays.sort(termIds, 0, size);
+        int distinct = 1;
+        for (int i = 1; i < size; i++) {
+            if (termIds[i] != termIds[i - 1]) distinct++;
+        }
+        int[] vector = new int[distinct * 2];
+        int out = 0;
+        for (int i = 0; i < size; ) {
+            int run = i;
+            while (run < size && termIds[run] == termIds[i]) run++;
+            vector[out++] = termIds[i];
+            vector[out++] = run - i;
+            i = run;
+        }
+        return vector;
+    }
+
+    /* ================= TERM TABLE ================= */
+
+    // Only a term seen for the first time becomes a String
+    private int idOf(char[] term, int length) {
+        int slot = find(term, length);
+        if (keys[slot] != null) return ids[slot];
+        return add(new String(term, 0, length), slot);
+    }
+
+    private int add(String term, int slot) {
+        int id = termCount++;
+        if (id == terms.length) {
+            terms = Arrays.copyOf(terms, id * 2);
+            documentFrequency = Arrays.copyOf(documentFrequency, id * 2);
+            lastCounted = Arrays.copyOf(lastCounted, id * 2);
+        }
+        terms[id] = term;
+        keys[slot] = term;
+        ids[slot] = id;
+        // Keep the table at most half full
+        if (termCount * 2 > keys.length) rehash();
+        return id;
+    }
+
+    private int find(char[] term, int length) {
+        int mask = keys.length - 1;
+        int slot = hash(term, length) & mask;
+        while (keys[slot] != null && !equals(keys[slot], term, length)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void rehash() {
+        String[] oldKeys = keys;
+        int[] oldIds = ids;
+        keys = new String[oldKeys.length * 2];
+        ids = new int[keys.length];
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            String key = oldKeys[i];
+            if (key == null) continue;
+            int slot = key.hashCode() & mask;
+            while (keys[slot] != null) slot = (slot + 1) & mask;
+            keys[slot] = key;
+            ids[slot] = oldIds[i];
+        }
+    }
+
+    // Same value as String.hashCode, so rehashing can use the stored keys
+    private static int hash(char[] term, int length) {
+        int h = 0;
+        for (int i = 0; i < length; i++) h = 31 * h + term[i];
+        return h;
+    }
+
+    private static boolean equals(String key, char[] term, int length) {
+        if (key.length() != length) return false;
+        for (int i = 0; i < length; i++) {
+            if (key.charAt(i) != term[i]) return false;
+        }
+        return true;
+    }
+
+    /* ================= DeckCodec ================= */
+
+    synchronized String term(int id) {
+        return terms[id];
+    }
+
+    synchronized int documentFrequency(int id) {
+        return documentFrequency[id];
+    }
+
+    /**
+     * (term ID, count) pairs of one content point
+     */
+    synchronized int[] vector(int slide, int point) {
+        return vectors.get(slide)[point];
+    }
+
+    /**
+     * Rebuilds saved stats for freshly decoded slides; IDs and counts come back exactly as written
+     */
+    static TermStats restore(List<PPTContent.SlideContent> slides, String[] terms, int[] documentFrequency,
+                             List<int[][]> vectors) {
+        TermStats stats = new TermStats();
+        for (int id = 0; id < terms.length; id++) {
+            char[] chars = terms[id].toCharArray();
+            stats.add(terms[id], stats.find(chars, chars.length));
+            stats.documentFrequency[id] = documentFrequency[id];
+        }
+        stats.slides.addAll(slides);
+        stats.vectors.addAll(vectors);
+        return stats;
+    }
+}
@@ -0,0 +1,249 @@
+package com.student.learncraft;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
+
+/**
+ * Random access view of a zip file's central directory over a FileChannel.
+ * Only the directory is read up front; entry data is inflated on demand.
+ * Reads are positional, so entries can be opened from several threads at once.
+ */
+public class ZipDirectory {
+
+    private static final int EOCD_SIGNATURE = 0x06054b50;
+    private static final int EOCD64_LOCATOR_SIGNATURE = 0x07064b50;
+    private static final int EOCD64_SIGNATURE = 0x06064b50;
+    private static final int CENTRAL_SIGNATURE = 0x02014b50;
+    private static final int LOCAL_SIGNATURE = 0x04034b50;
+    private static final int EOCD_MIN_SIZE = 22;
+    private static final int MAX_COMMENT = 0xFFFF;
+
+    private final FileChannel channel;
+    private final Map<String, Entry> entries;
+
+    /**
+     * One file in the zip, as described by the central directory
+     */
+    public static class Entry {
+        public final String name;
+        public final int method;
+        public final long compressedSize;
+        public final long size;
+        final long localHeaderOffset;
+
+        Entry(String name, int method, long compressedSize, long size, long localHeaderOffset) {
+            this.name = name;
+            this.method = method;
+            this.compressedSize = compressedSize;
+            this.size = size;
+            this.localHeaderOffset = localHeaderOffset;
+        }
+    }
+
+    private ZipDirectory(FileChannel channel, Map<String, Entry> entries) {
+        this.channel = channel;
+        this.entries = entries;
+    }
+
+    /**
+     * Reads the central directory. The channel must be seekable and stays owned by the caller.
+     */
+    public static ZipDirectory read(FileChannel channel) throws IOException {
+        long fileSize = channel.size();
+        if (fileSize < EOCD_MIN_SIZE) throw new ZipException("Not a zip file");
+
+        // End of central directory record sits in the last 64 KB (+ its own size)
+        int tailSize = (int) Math.min(fileSize, EOCD_MIN_SIZE + MAX_COMMENT);
+        ByteBuffer tail = readFully(channel, fileSize - tailSize, tailSize);
+
+        int eocd = -1;
+        for (int i = tailSize - EOCD_MIN_SIZE; i >= 0; i--) {
+            if (tail.getInt(i) == EOCD_SIGNATURE) {
+                eocd = i;
+                break;
+            }
+        }
+        if (eocd == -1) throw new ZipException("End of central directory not found");
+
+        long entryCount = tail.getShort(eocd + 10) & 0xFFFF;
+        long directorySize = tail.getInt(eocd + 12) & 0xFFFFFFFFL;
+        long directoryOffset = tail.getInt(eocd + 16) & 0xFFFFFFFFL;
+
+        // ZIP64 decks keep the real values in a separate record
+        if (eocd >= 20 && tail.getInt(eocd - 20) == EOCD64_LOCATOR_SIGNATURE) {
+            long eocd64Offset = tail.getLong(eocd - 20 + 8);
+            ByteBuffer eocd64 = readFully(channel, eocd64Offset, 56);
+            if (eocd64.getInt(0) != EOCD64_SIGNATURE) throw new ZipException("Bad ZIP64 record");
+            entryCount = eocd64.getLong(32);
+            directorySize = eocd64.getLong(40);
+            directoryOffset = eocd64.getLong(48);
+        }
+
+        if (directoryOffset + directorySize > fileSize || directorySize > Integer.MAX_VALUE) {
+            throw new ZipException("Central directory out of range");
+        }
+
+        ByteBuffer directory = readFully(channel, directoryOffset, (int) directorySize);
+        Map<String, Entry> entries = new LinkedHashMap<>();
+        int pos = 0;
+
+        for (long i = 0; i < entryCount; i++) {
+            if (pos + 46 > directory.limit() || directory.getInt(pos) != CENTRAL_SIGNATURE) {
+                throw new ZipException("Corrupt central directory");
+            }
+
+            int method = directory.getShort(pos + 10) & 0xFFFF;
+            long compressedSize = directory.getInt(pos + 20) & 0xFFFFFFFFL;
+            long size = directory.getInt(pos + 24) & 0xFFFFFFFFL;
+            int nameLength = directory.getShort(pos + 28) & 0xFFFF;
+            int extraLength = directory.getShort(pos + 30) & 0xFFFF;
+            int commentLength = directory.getShort(pos + 32) & 0xFFFF;
+            long localOffset = directory.getInt(pos + 42) & 0xFFFFFFFFL;
+
+            byte[] nameBytes = new byte[nameLength];
+            directory.position(pos + 46);
+            directory.get(nameBytes);
+            String name = new String(nameBytes, StandardCharsets.UTF_8);
+
+            // ZIP64 extra field replaces whichever values were saturated
+            int extra = pos + 46 + nameLength;
+            int extraEnd = extra + extraLength;
+            while (extra + 4 <= extraEnd) {
+                int headerId = directory.getShort(extra) & 0xFFFF;
+                int dataSize = directory.getShort(extra + 2) & 0xFFFF;
+                if (headerId == 0x0001) {
+                    int field = extra + 4;
+                    if (size == 0xFFFFFFFFL) { size = directory.getLong(field); field += 8; }
+                    if (compressedSize == 0xFFFFFFFFL) { compressedSize = directory.getLong(field); field += 8; }
+                    if (localOffset == 0xFFFFFFFFL) { localOffset = directory.getLong(field); }
+                    break;
+                }
+                extra += 4 + dataSize;
+            }
+
+            entries.put(name, new Entry(name, method, compressedSize, size, localOffset));
+            pos += 46 + nameLength + extraLength + commentLength;
+        }
+
+        return new ZipDirectory(channel, entries);
+    }
+
+    public Entry getEntry(String name) {
+        return entries.get(name);
+    }
+
+    public List<Entry> getEntries() {
+        return Collections.unmodifiableList(new ArrayList<>(entries.values()));
+    }
+
+    /**
+     * Opens an entry for reading. Only this entry's bytes are read and inflated.
+     */
+    public InputStream open(Entry entry) throws IOException {
+        ByteBuffer local = readFully(channel, entry.localHeaderOffset, 30);
+        if (local.getInt(0) != LOCAL_SIGNATURE) throw new ZipException("Bad local header: " + entry.name);
+
+        int nameLength = local.getShort(26) & 0xFFFF;
+        int extraLength = local.getShort(28) & 0xFFFF;
+        long dataOffset = entry.localHeaderOffset + 30 + nameLength + extraLength;
+
+        InputStream raw = new ChannelInputStream(channel, dataOffset, entry.compressedSize);
+        switch (entry.method) {
+            case 0:
+                return raw;
+            case 8:
+                return new EntryInflaterStream(raw);
+            default:
+                throw new ZipException("Unsupported compression method " + entry.method + ": " + entry.name);
+        }
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) throw new EOFException("Unexpected end of zip");
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Raw inflate needs one dummy byte after the data, same as java.util.zip.ZipFile
+     */
+    private static class EntryInflaterStream extends InflaterInputStream {
+        private boolean eof;
+
+        EntryInflaterStream(InputStream raw) {
+            super(raw, new Inflater(true), 8192);
+        }
+
+        @Override
+        protected void fill() throws IOException {
+            if (eof) throw new EOFException("Unexpected end of zip entry");
+            len = in.read(buf, 0, buf.length);
+            if (len == -1) {
+                buf[0] = 0;
+                len = 1;
+                eof = true;
+            }
+            inf.setInput(buf, 0, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            super.close();
+            inf.end();
+        }
+    }
+
+    /**
+     * Reads a byte range of the channel with positional reads
+     */
+    private static class ChannelInputStream extends InputStream {
+        private final FileChannel channel;
+        private long position;
+        private long remaining;
+
+        ChannelInputStream(FileChannel channel, long position, long length) {
+            this.channel = channel;
+            this.position = position;
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) == -1 ? -1 : one[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) return -1;
+            int wanted = (int) Math.min(len, remaining);
+            int read = channel.read(ByteBuffer.wrap(b, off, wanted), position);
+            if (read < 0) throw new EOFException("Unexpected end of zip entry");
+            position += read;
+            remaining -= read;
+            return read;
+        }
+
+        @Override
+        public int available() {
+            return (int) Math.min(remaining, Integer.MAX_VALUE);
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package com.student.learncraft;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * Walks the local headers of a zip stream. Unlike ZipInputStream, entries that
+ * aren't opened are skipped as raw bytes and never inflated, as long as the
+ * header carries their size. Entries written with a trailing data descriptor
+ * have to be inflated to find their end; IngestStats counts those separately.
+ */
+public class ZipStreamWalker {
+
+    private static final int LOCAL_SIGNATURE = 0x04034b50;
+    private static final int DESCRIPTOR_SIGNATURE = 0x08074b50;
+    private static final int FLAG_DATA_DESCRIPTOR = 0x08;
+    private static final int BUFFER_SIZE = 8192;
+
+    private final PushbackInputStream in;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private final byte[] header = new byte[30];
+
+    private final IngestStats stats = new IngestStats();
+
+    private Entry current;
+    private EntryStream opened;
+
+    /**
+     * A local file header
+     */
+    public static class Entry {
+        public final String name;
+        public final int method;
+        public final long compressedSize; // -1 when only the data descriptor knows
+        final boolean hasDescriptor;
+        final boolean zip64;
+
+        Entry(String name, int method, long compressedSize, boolean hasDescriptor, boolean zip64) {
+            this.name = name;
+            this.method = method;
+            this.compressedSize = compressedSize;
+            this.hasDescriptor = hasDescriptor;
+            this.zip64 = zip64;
+        }
+    }
+
+    public ZipStreamWalker(InputStream inputStream) {
+        this.in = new PushbackInputStream(inputStream, BUFFER_SIZE);
+    }
+
+    /**
+     * Moves to the next entry, skipping whatever is left of the current one
+     * @return the next entry, or null once the central directory is reached
+     */
+    public Entry next() throws IOException {
+        if (opened != null) {
+            opened.close();
+            stats.addRead(opened.consumed);
+            opened = null;
+        } else if (current != null) {
+            skipCurrent();
+        }
+        current = null;
+
+        if (!readFully(header, 0, 4, true)) return null;
+        if (intAt(header, 0) != LOCAL_SIGNATURE) return null; // central directory or junk
+        readFully(header, 4, 26, false);
+
+        int flags = shortAt(header, 6);
+        int method = shortAt(header, 8);
+        long compressedSize = intAt(header, 18) & 0xFFFFFFFFL;
+        int nameLength = shortAt(header, 26);
+        int extraLength = shortAt(header, 28);
+
+        byte[] nameBytes = new byte[nameLength];
+        readFully(nameBytes, 0, nameLength, false);
+        byte[] extra = new byte[extraLength];
+        readFully(extra, 0, extraLength, false);
+
+        boolean hasDescriptor = (flags & FLAG_DATA_DESCRIPTOR) != 0;
+        boolean zip64 = hasZip64Extra(extra);
+        if (compressedSize == 0xFFFFFFFFL) {
+            compressedSize = zip64CompressedSize(extra);
+        }
+        if (hasDescriptor) {
+            compressedSize = -1;
+        }
+        if (method != 0 && method != 8) {
+            throw new ZipException("Unsupported compression method " + method);
+        }
+        if (method == 0 && compressedSize < 0) {
+            throw new ZipException("Stored entry without size: cannot be streamed");
+        }
+
+        current = new Entry(new String(nameBytes, StandardCharsets.UTF_8), method, compressedSize, hasDescriptor, zip64);
+        return current;
+    }
+
+    /**
+     * Opens the current entry; whatever isn't read is drained by the next call to next()
+     */
+    public InputStream open() {
+        if (current == null || opened != null) throw new IllegalStateException("No entry to open");
+        opened = current.method == 0 ? new StoredStream(current.compressedSize) : new InflatingStream();
+        return opened;
+    }
+
+    /**
+     * Parts read and skipped so far
+     */
+    public IngestStats getStats() {
+        return stats;
+    }
+
+    private void skipCurrent() throws IOException {
+        if (current.compressedSize >= 0) {
+            skipFully(current.compressedSize);
+            stats.addSkipped(current.compressedSize);
+        } else {
+            // Only a data descriptor knows where this entry ends
+            InflatingStream stream = new InflatingStream();
+            stream.close();
+            stats.addInflatedToSkip(stream.consumed);
+        }
+    }
+
+    private void skipFully(long count) throws IOException {
+        while (count > 0) {
+            long skipped = in.skip(count);
+            if (skipped <= 0) {
+                if (in.read() == -1) throw new EOFException("Unexpected end of zip");
+                skipped = 1;
+            }
+            count -= skipped;
+        }
+    }
+
+    /**
+     * Reads the data descriptor after a deflated entry: optional signature, crc, then the two sizes
+     */
+    private void readDescriptor(boolean zip64) throws IOException {
+        byte[] descriptor = new byte[4];
+        readFully(descriptor, 0, 4, false);
+        int remaining = zip64 ? 20 : 12;
+        if (intAt(descriptor, 0) != DESCRIPTOR_SIGNATURE) {
+            remaining -= 4; // No signature, that was the crc
+        }
+        skipFully(remaining);
+    }
+
+    private boolean readFully(byte[] b, int off, int len, boolean allowEof) throws IOException {
+        int done = 0;
+        while (done < len) {
+            int read = in.read(b, off + done, len - done);
+            if (read == -1) {
+                if (allowEof && done == 0) return false;
+                throw new EOFException("Unexpected end of zip");
+            }
+            done += read;
+        }
+        return true;
+    }
+
+    private static boolean hasZip64Extra(byte[] extra) {
+        int pos = 0;
+        while (pos + 4 <= extra.length) {
+            if (shortAt(extra, pos) == 0x0001) return true;
+            pos += 4 + shortAt(extra, pos + 2);
+        }
+        return false;
+    }
+
+    private static long zip64CompressedSize(byte[] extra) {
+        int pos = 0;
+        while (pos + 4 <= extra.length) {
+            int id = shortAt(extra, pos);
+            int size = shortAt(extra, pos + 2);
+            if (id == 0x0001 && size >= 16) {
+                return longAt(extra, pos + 12);
+            }
+            pos += 4 + size;
+        }
+        return -1;
+    }
+
+    private static int shortAt(byte[] b, int i) {
+        return (b[i] & 0xFF) | (b[i + 1] & 0xFF) << 8;
+    }
+
+    private static int intAt(byte[] b, int i) {
+        return shortAt(b, i) | shortAt(b, i + 2) << 16;
+    }
+
+    private static long longAt(byte[] b, int i) {
+        return (intAt(b, i) & 0xFFFFFFFFL) | ((long) intAt(b, i + 4)) << 32;
+    }
+
+    /**
+     * Entry data, counting the compressed bytes it consumes
+     */
+    private abstract static class EntryStream extends InputStream {
+        long consumed;
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) == -1 ? -1 : one[0] & 0xFF;
+        }
+    }
+
+    /**
+     * Stored entry: exactly compressedSize raw bytes
+     */
+    private class StoredStream extends EntryStream {
+        private long remaining;
+
+        StoredStream(long size) {
+            this.remaining = size;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) return -1;
+            int read = in.read(b, off, (int) Math.min(len, remaining));
+            if (read == -1) throw new EOFException("Unexpected end of zip entry");
+            remaining -= read;
+            consumed += read;
+            return read;
+        }
+
+        @Override
+        public void close() throws IOException {
+            // Leave the walker positioned at the next header
+            skipFully(remaining);
+            consumed += remaining;
+            remaining = 0;
+        }
+    }
+
+    /**
+     * Deflated entry. Inflates straight from the walker's stream and pushes back
+     * whatever the inflater didn't use, so the next header is read from the right place.
+     */
+    private class InflatingStream extends EntryStream {
+        private final Inflater inflater = new Inflater(true);
+        private final byte[] input = new byte[BUFFER_SIZE];
+        private final long limit = current.compressedSize;
+        private int lastFill;
+        private boolean padded;
+        private boolean done;
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (done) return -1;
+            try {
+                while (true) {
+                    int n = inflater.inflate(b, off, len);
+                    if (n > 0) return n;
+                    if (inflater.finished() || inflater.needsDictionary()) {
+                        finish();
+                        return -1;
+                    }
+                    if (inflater.needsInput()) fill();
+                }
+            } catch (DataFormatException e) {
+                throw new ZipException("Corrupt deflate data: " + e.getMessage());
+            }
+        }
+
+        private void fill() throws IOException {
+            int wanted = input.length;
+            if (limit >= 0) wanted = (int) Math.min(wanted, limit - consumed);
+            int read = wanted > 0 ? in.read(input, 0, wanted) : -1;
+            if (read == -1) {
+                if (padded) throw new EOFException("Unexpected end of zip entry");
+                // Raw inflate may need one dummy byte to finish
+                padded = true;
+                input[0] = 0;
+                inflater.setInput(input, 0, 1);
+                lastFill = 1;
+                return;
+            }
+            inflater.setInput(input, 0, read);
+            lastFill = read;
+            consumed += read;
+        }
+
+        private void finish() throws IOException {
+            done = true;
+            int unused = inflater.getRemaining();
+            if (unused > 0 && limit < 0) {
+                // Read past the end of the entry: give back the descriptor / next header
+                in.unread(input, lastFill - unused, unused);
+                consumed -= unused;
+            }
+            inflater.end();
+            if (current.hasDescriptor) {
+                readDescriptor(current.zip64);
+            } else if (consumed < limit) {
+                skipFully(limit - consumed);
+                consumed = limit;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            // Drain so the next header lines up
+            while (!done) {
+                read(buffer, 0, buffer.length);
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.student.learncraft;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+/**
+ * Sentence classification, on the development machine (host).
+ */
+public class ContentAnalyzerTest {
+
+    @Test
+    public void classify_matchesKeywordsAsWholeWordsOnly() {
+        // Keywords inside longer words no longer count: "vs" in canvas, "are" in software,
+        // "key" in keys, "is a" in "is also"
+        assertAnalyzed("A canvas is drawn on the screen.", ContentAnalyzer.ContentType.FACT, 3);
+        assertAnalyzed("Software runs on hardware.", ContentAnalyzer.ContentType.FACT, 3);
+        assertAnalyzed("Keys identify each row in a table.", ContentAnalyzer.ContentType.FACT, 3);
+        assertAnalyzed("Caching is also useful for speed.", ContentAnalyzer.ContentType.FACT, 3);
+
+        // Whole words classify as before, in any case
+        assertAnalyzed("Python vs Java differ in typing.", ContentAnalyzer.ContentType.COMPARISON, 4);
+        assertAnalyzed("Objects are instances of classes.", ContentAnalyzer.ContentType.DEFINITION, 5);
+        assertAnalyzed("The key idea is reuse.", ContentAnalyzer.ContentType.FACT, 4);
+        assertAnalyzed("HTTP Stands For HyperText Transfer Protocol.", ContentAnalyzer.ContentType.DEFINITION, 5);
+        assertAnalyzed("Inheritance is a mechanism for reuse.", ContentAnalyzer.ContentType.DEFINITION, 5);
+        assertAnalyzed("Lists keep order, whereas sets do not.", ContentAnalyzer.ContentType.COMPARISON, 4);
+        assertAnalyzed("Short bullet without a full stop", ContentAnalyzer.ContentType.LIST_ITEM, 3);
+    }
+
+    @Test
+    public void keywords_canBeChangedLikeAnArrayList() {
+        ContentAnalyzer.AnalyzedContent content = new ContentAnalyzer()
+                .analyzeContent(Arrays.asList("Threads share the heap, processes don't.")).get(0);
+        assertEquals(Arrays.asList("threads", "share", "heap", "processes", "dont"), content.keywords);
+
+        content.keywords.add("memory");
+        content.keywords.remove("share");
+        content.keywords.set(0, "thread");
+        assertEquals(Arrays.asList("thread", "heap", "processes", "dont", "memory"), content.keywords);
+    }
+
+    @Test
+    public void parallel_sameResultsInInputOrder() {
+        PPTContent deck = new DeckGenerator().seed(9).slides(1200)
+                .definitionShare(0.3).comparisonShare(0.2).content();
+        // Blank and missing points, which are skipped
+        for (int i = 0; i < deck.getSlides().size(); i += 7) {
+            deck.getSlides().get(i).addContentPoint(i % 2 == 0 ? "   " : null);
+        }
+        List<String> texts = new ArrayList<>();
+        for (PPTContent.SlideContent slide : deck.getSlides()) texts.addAll(slide.getContentPoints());
+        assertTrue(texts.size() > 4096);
+
+        List<ContentAnalyzer.AnalyzedContent> expected = new ContentAnalyzer().analyzeContent(texts);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<ContentAnalyzer.AnalyzedContent> actual = new ContentAnalyzer().analyzeContentParallel(texts, pool);
+            assertSameAnalysis(expected, actual);
+
+            // The deck analysis is split the same way and keeps a null slot for each blank point
+            DeckAnalysis analysis = new ContentAnalyzer().analyzeDeck(deck, pool);
+            List<ContentAnalyzer.AnalyzedContent> bySlide = new ArrayList<>();
+            for (int i = 0; i < deck.getSlides().size(); i++) {
+                PPTContent.SlideContent slide = deck.getSlides().get(i);
+                List<ContentAnalyzer.AnalyzedContent> slideAnalysis = analysis.forSlide(i, slide);
+                assertEquals(slide.getContentPoints().size(), slideAnalysis.size());
+                for (int p = 0; p < slideAnalysis.size(); p++) {
+                    String point = slide.getContentPoints().get(p);
+                    boolean blank = point == null || point.trim().isEmpty();
+                    assertEquals(blank, slideAnalysis.get(p) == null);
+                    if (!blank) bySlide.add(slideAnalysis.get(p));
+                }
+            }
+            assertSameAnalysis(expected, bySlide);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static void assertSameAnalysis(List<ContentAnalyzer.AnalyzedContent> expected,
+                                           List<ContentAnalyzer.AnalyzedContent> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).text, actual.get(i).text);
+            assertEquals(expected.get(i).type, actual.get(i).type);
+            assertEquals(expected.get(i).importance, actual.get(i).importance);
+            assertEquals(new ArrayList<>(expected.get(i).keywords), new ArrayList<>(actual.get(i).keywords));
+        }
+    }
+
+    private static void assertAnalyzed(String text, ContentAnalyzer.ContentType type, int importance) {
+        List<ContentAnalyzer.AnalyzedContent> analyzed = new ContentAnalyzer().analyzeContent(Arrays.asList(text));
+        assertEquals(1, analyzed.size());
+        assertEquals(text, type, analyzed.get(0).type);
+        assertEquals(text, importance, analyzed.get(0).importance);
+    }
+}
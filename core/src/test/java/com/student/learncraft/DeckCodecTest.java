@@ -0,0 +1,144 @@
+package com.student.learncraft;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Binary deck format round trips, on the development machine (host).
+ */
+public class DeckCodecTest {
+
+    @Test
+    public void deckWithTermStats_decodesToSameStats() throws Exception {
+        PPTContent deck = new DeckGenerator().seed(13).slides(80)
+                .acronymShare(0.2).definitionShare(0.3).comparisonShare(0.2).content();
+        TermStats live = TermStats.of(deck.getSlides());
+        deck.setTermStats(live);
+
+        PPTContent decoded = DeckCodec.decodeDeck(DeckCodec.encodeDeck(deck));
+        TermStats restored = decoded.getTermStats();
+        assertNotNull(restored);
+        assertTrue(restored.matches(decoded.getSlides()));
+        assertEquals(live.getSlideCount(), restored.getSlideCount());
+        assertEquals(live.getTermCount(), restored.getTermCount());
+
+        KeywordTokenizer tokenizer = new KeywordTokenizer();
+        for (int i = 0; i < deck.getSlides().size(); i++) {
+            assertArrayEquals(live.scoresFor(i, deck.getSlides().get(i)),
+                    restored.scoresFor(i, decoded.getSlides().get(i)), 0f);
+            for (String point : deck.getSlides().get(i).getContentPoints()) {
+                for (String term : tokenizer.tokenize(point)) {
+                    assertEquals(term, live.documentFrequency(term), restored.documentFrequency(term));
+                }
+            }
+        }
+        assertEquals(0, restored.documentFrequency("notaterminthisdeck"));
+    }
+
+    @Test
+    public void deckWithoutTermStats_stillDecodes() throws Exception {
+        PPTContent deck = new DeckGenerator().seed(14).slides(20).content();
+
+        PPTContent decoded = DeckCodec.decodeDeck(DeckCodec.encodeDeck(deck));
+        assertNull(decoded.getTermStats());
+        assertEquals(deck.getSlides().size(), decoded.getSlides().size());
+        for (int i = 0; i < deck.getSlides().size(); i++) {
+            PPTContent.SlideContent expected = deck.getSlides().get(i);
+            PPTContent.SlideContent actual = decoded.getSlides().get(i);
+            assertEquals(expected.getTitle(), actual.getTitle());
+            assertEquals(expected.getContentPoints(), actual.getContentPoints());
+        }
+
+        // Stats that no longer match the slides are left out, so the deck reads back without them
+        deck.setTermStats(TermStats.of(deck.getSlides().subList(0, 10)));
+        assertNull(DeckCodec.decodeDeck(DeckCodec.encodeDeck(deck)).getTermStats());
+    }
+
+    @Test
+    public void questions_roundTrip() throws Exception {
+        List<MCQQuestion> questions = new ArrayList<>();
+        MCQQuestion full = new MCQQuestion("What is a process?",
+                Arrays.asList("A running program", "A file", "A thread", "None of the above"),
+                3, "A process is a running program.", MCQQuestion.QuestionType.DEFINITION);
+        full.setDifficulty("Medium");
+        questions.add(full);
+        // Nulls and an unanswered index come back as they were
+        questions.add(new MCQQuestion("Which is NOT a thread state?",
+                Arrays.asList("Runnable", "Blocked", "Sleeping", "Runnable"), -1, null, null));
+        questions.add(new MCQQuestion(null, null, 0, null, MCQQuestion.QuestionType.FILL_IN_BLANK));
+
+        List<MCQQuestion> decoded = DeckCodec.decodeQuestions(DeckCodec.encodeQuestions(questions));
+        assertEquals(questions.size(), decoded.size());
+        for (int i = 0; i < questions.size(); i++) {
+            MCQQuestion expected = questions.get(i);
+            MCQQuestion actual = decoded.get(i);
+            assertEquals(expected.getQuestion(), actual.getQuestion());
+            assertEquals(expected.getOptions(), actual.getOptions());
+            assertEquals(expected.getCorrectAnswerIndex(), actual.getCorrectAnswerIndex());
+            assertEquals(expected.getExplanation(), actual.getExplanation());
+            assertEquals(expected.getType(), actual.getType());
+            assertEquals(expected.getDifficulty(), actual.getDifficulty());
+        }
+    }
+
+    @Test
+    public void questions_unknownTypeReadsAsFact() throws Exception {
+        MCQQuestion question = new MCQQuestion("Q", Arrays.asList("a", "b", "c", "d"), 1, "E",
+                MCQQuestion.QuestionType.COMPARISON);
+        byte[] data = DeckCodec.encodeQuestions(Arrays.asList(question));
+
+        // A type written by another version of the app, same length so the record stays valid
+        replace(data, "COMPARISON", "CONTRASTED");
+        MCQQuestion decoded = DeckCodec.decodeQuestions(data).get(0);
+        assertEquals(MCQQuestion.QuestionType.FACT, decoded.getType());
+        assertEquals(1, decoded.getCorrectAnswerIndex());
+        assertEquals("E", decoded.getExplanation());
+    }
+
+    @Test
+    public void questions_badHeaderIsRejected() throws Exception {
+        byte[] data = DeckCodec.encodeQuestions(Arrays.asList(
+                new MCQQuestion("Q", Arrays.asList("a", "b", "c", "d"), 0, null, MCQQuestion.QuestionType.FACT)));
+
+        byte[] badMagic = data.clone();
+        badMagic[0] = 'X';
+        assertRejected(badMagic);
+
+        byte[] badVersion = data.clone();
+        badVersion[4] = (byte) (DeckCodec.VERSION + 1);
+        assertRejected(badVersion);
+
+        // A deck record isn't a question list
+        assertRejected(DeckCodec.encodeDeck(new DeckGenerator().seed(15).slides(3).content()));
+    }
+
+    private static void assertRejected(byte[] data) {
+        try {
+            DeckCodec.decodeQuestions(data);
+            fail("Expected an IOException");
+        } catch (IOException expected) {
+            // Caches drop the entry and rebuild it
+        }
+    }
+
+    private static void replace(byte[] data, String from, String to) {
+        byte[] target = from.getBytes(StandardCharsets.UTF_8);
+        byte[] replacement = to.getBytes(StandardCharsets.UTF_8);
+        outer:
+        for (int i = 0; i + target.length <= data.length; i++) {
+            for (int j = 0; j < target.length; j++) {
+                if (data[i + j] != target[j]) continue outer;
+            }
+            System.arraycopy(replacement, 0, data, i, replacement.length);
+            return;
+        }
+        fail(from + " not found");
+    }
+}
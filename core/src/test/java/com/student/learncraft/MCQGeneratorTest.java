@@ -0,0 +1,194 @@
+package com.student.learncraft;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+/**
+ * Question generation against synthetic decks, on the development machine (host).
+ */
+public class MCQGeneratorTest {
+
+    @Test
+    public void pool_yieldsRequestedCountOrWholePool() {
+        for (long seed = 1; seed <= 20; seed++) {
+            PPTContent deck = new DeckGenerator().seed(seed).slides(6).bulletsPerSlide(2, 4)
+                    .acronymShare(0.2).definitionShare(0.3).content();
+            MCQGenerator generator = new MCQGenerator(seed);
+            int capacity = generator.countCandidates(deck);
+
+            for (int count : new int[]{5, 20, 50}) {
+                List<MCQQuestion> questions = generator.generateFromPool(deck, count);
+                assertEquals(Math.min(count, capacity), questions.size());
+                for (MCQQuestion q : questions) assertPlayable(q);
+            }
+        }
+    }
+
+    @Test
+    public void pool_spreadsAcrossSlidesBeforeReusingThem() {
+        PPTContent deck = new DeckGenerator().seed(7).slides(40).content();
+        List<MCQQuestion> questions = new MCQGenerator(7).generateFromPool(deck, 20);
+
+        Set<String> questionTexts = new HashSet<>();
+        for (MCQQuestion q : questions) questionTexts.add(q.getQuestion());
+        assertEquals(20, questions.size());
+        // At most one question per slide while unused slides remain
+        assertTrue(questionTexts.size() >= 15);
+    }
+
+    @Test
+    public void parallel_sameSeedSameQuizOnAnyThreadCount() {
+        PPTContent deck = new DeckGenerator().seed(11).slides(300)
+                .acronymShare(0.2).definitionShare(0.25).comparisonShare(0.15).content();
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool four = new ForkJoinPool(4);
+        try {
+            List<MCQQuestion> expected = new MCQGenerator().generateParallel(deck, 100, 99L, single);
+            List<MCQQuestion> actual = new MCQGenerator().generateParallel(deck, 100, 99L, four);
+
+            assertEquals(100, expected.size());
+            assertEquals(expected.size(), actual.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i).getQuestion(), actual.get(i).getQuestion());
+                assertEquals(expected.get(i).getOptions(), actual.get(i).getOptions());
+                assertEquals(expected.get(i).getCorrectAnswerIndex(), actual.get(i).getCorrectAnswerIndex());
+            }
+        } finally {
+            single.shutdown();
+            four.shutdown();
+        }
+    }
+
+    @Test
+    public void stream_matchesParallelQuizThenKeepsGoingInPractice() {
+        PPTContent deck = new DeckGenerator().seed(5).slides(12).content();
+        List<MCQQuestion> quiz = new MCQGenerator().generateParallel(deck, 30, 5L);
+
+        MCQGenerator generator = new MCQGenerator();
+        try (QuestionStream stream = generator.stream(deck, 30, 5L, 2)) {
+            for (MCQQuestion expected : quiz) {
+                MCQQuestion actual = stream.next();
+                assertEquals(expected.getQuestion(), actual.getQuestion());
+                assertEquals(expected.getOptions(), actual.getOptions());
+            }
+            assertFalse(stream.hasNext());
+        }
+
+        int capacity = generator.countCandidates(deck);
+        try (QuestionStream practice = generator.stream(deck, -1, 5L, 2)) {
+            for (int i = 0; i < capacity * 2 + 1; i++) assertPlayable(practice.next());
+        }
+    }
+
+    @Test
+    public void stream_skipsQuestionsShortOfFourOptions() {
+        PPTContent deck = new DeckGenerator().seed(6).slides(8).content();
+        // A one-word full form with no look-alike words leaves its acronym question with too few options
+        for (int i = 0; i < 4; i++) {
+            PPTContent.SlideContent slide = new PPTContent.SlideContent();
+            slide.setTitle("File systems " + i);
+            slide.addContentPoint("ZFS stands for Zettabyte.");
+            deck.addSlide(slide);
+        }
+        MCQGenerator generator = new MCQGenerator();
+        int capacity = generator.countCandidates(deck);
+        List<MCQQuestion> quiz = generator.generateParallel(deck, capacity, 6L);
+        int playable = 0;
+        for (MCQQuestion q : quiz) {
+            if (q.getOptions().size() >= 4) playable++;
+        }
+        assertTrue(playable < quiz.size());
+
+        // The playable questions of the same quiz, in order
+        try (QuestionStream stream = generator.stream(deck, capacity, 6L, 2)) {
+            for (MCQQuestion expected : quiz) {
+                if (expected.getOptions().size() < 4) continue;
+                MCQQuestion actual = stream.next();
+                assertPlayable(actual);
+                assertEquals(expected.getQuestion(), actual.getQuestion());
+                assertEquals(expected.getOptions(), actual.getOptions());
+            }
+            assertFalse(stream.hasNext());
+        }
+        try (QuestionStream practice = generator.stream(deck, -1, 6L, 2)) {
+            for (int i = 0; i < capacity * 2 + 1; i++) assertPlayable(practice.next());
+        }
+    }
+
+    @Test
+    public void stream_closeReleasesWaitingReader() throws Exception {
+        // A question that takes until the producer is interrupted, like a slow build when the quiz is closed
+        QuestionStream stream = new QuestionStream(() -> {
+            try {
+                Thread.sleep(Long.MAX_VALUE);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }, 2);
+
+        boolean[] result = {true};
+        Thread reader = new Thread(() -> result[0] = stream.hasNext());
+        reader.setDaemon(true);
+        reader.start();
+        while (reader.getState() != Thread.State.WAITING) Thread.sleep(5);
+
+        stream.close();
+        reader.join(5000);
+        assertFalse(reader.isAlive());
+        assertFalse(result[0]);
+        assertFalse(stream.hasNext());
+    }
+
+    @Test
+    public void analyzedDeck_everyPickStillBuilds() {
+        PPTContent deck = new DeckGenerator().seed(3).slides(30)
+                .acronymShare(0.2).definitionShare(0.3).comparisonShare(0.2).content();
+        MCQGenerator generator = new MCQGenerator(3);
+        generator.countCandidates(deck);
+
+        // Attached after the generator has seen the deck, as when ingestion finishes late
+        deck.setAnalysis(new ContentAnalyzer().analyzeDeck(deck));
+        deck.setTermStats(TermStats.of(deck.getSlides()));
+        int capacity = generator.countCandidates(deck);
+        List<MCQQuestion> questions = generator.generateFromPool(deck, capacity);
+        assertEquals(capacity, questions.size());
+        for (MCQQuestion q : questions) assertPlayable(q);
+
+        for (MCQQuestion q : generator.generateQuestions(deck, 40)) assertPlayable(q);
+    }
+
+    @Test
+    public void analyzedComparisonSlide_getsNotQuestionFromParallel() {
+        for (long seed = 1; seed <= 10; seed++) {
+            PPTContent deck = new DeckGenerator().seed(seed).slides(20).comparisonShare(0).content();
+            PPTContent.SlideContent comparison = new PPTContent.SlideContent();
+            comparison.setTitle("Storage");
+            comparison.addContentPoint("Solid state drives read data faster compared to hard disks.");
+            comparison.addContentPoint("Flash memory has no moving parts, unlike spinning disks.");
+            comparison.addContentPoint("RAM loses its data on power off, whereas disks keep it.");
+            deck.addSlide(comparison);
+            deck.setAnalysis(new ContentAnalyzer().analyzeDeck(deck));
+
+            // One question per slide, so the slide gets exactly one, of the type its sentences call for
+            List<MCQQuestion> questions = new MCQGenerator().generateParallel(deck, deck.getSlides().size(), seed);
+            int notQuestions = 0;
+            for (MCQQuestion q : questions) {
+                if (q.getQuestion().endsWith("NOT related to Storage?")) notQuestions++;
+            }
+            assertEquals(1, notQuestions);
+        }
+    }
+
+    private static void assertPlayable(MCQQuestion q) {
+        assertNotNull(q);
+        assertEquals(4, q.getOptions().size());
+        assertTrue(q.getCorrectAnswerIndex() >= 0 && q.getCorrectAnswerIndex() < 4);
+    }
+}
@@ -0,0 +1,91 @@
+package com.student.learncraft;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.Assert.*;
+
+/**
+ * Readers against synthetic decks, on the development machine (host).
+ */
+public class PPTStreamReaderTest {
+
+    @Test
+    public void streamRead_matchesGeneratedText() throws Exception {
+        DeckGenerator generator = new DeckGenerator().seed(3).slides(120)
+                .acronymShare(0.3).definitionShare(0.3).comparisonShare(0.2);
+
+        PPTContent read = new PPTStreamReader().read(new ByteArrayInputStream(generator.toBytes()), "deck.pptx");
+        assertSameSlides(generator.content(), read);
+    }
+
+    @Test
+    public void randomAccessRead_matchesStreamRead() throws Exception {
+        DeckGenerator generator = DeckGenerator.templateDeck().longTextBoxes(5_000);
+        Path file = generator.write(Files.createTempFile("deck", ".pptx"));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            PPTContent read = new PPTStreamReader().readParallel(ZipDirectory.read(channel), "deck.pptx");
+            assertSameSlides(generator.content(), read);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void mediaIsSkippedWithoutInflating() throws Exception {
+        DeckGenerator generator = new DeckGenerator().slides(10).media(5, 2_000_000);
+
+        PPTStreamReader reader = new PPTStreamReader();
+        PPTContent read = reader.read(new ByteArrayInputStream(generator.toBytes()), "deck.pptx");
+
+        assertSameSlides(generator.content(), read);
+        assertTrue(reader.getLastStats().getBytesSkipped() >= 2_000_000);
+        assertTrue(reader.getLastStats().getBytesInflatedToSkip() < 100_000);
+    }
+
+    @Test
+    public void slideMissingFromZip_isSkipped() throws Exception {
+        DeckGenerator generator = new DeckGenerator().seed(8).slides(6);
+        // presentation.xml still lists slide 3
+        byte[] pptx = withoutEntry(generator.toBytes(), "ppt/slides/slide3.xml");
+
+        PPTContent expected = generator.content();
+        expected.getSlides().remove(2);
+        assertSameSlides(expected, new PPTStreamReader().read(new ByteArrayInputStream(pptx), "deck.pptx"));
+        assertSameSlides(expected, new PPTStreamReader().readParallel(new ByteArrayInputStream(pptx), "deck.pptx"));
+    }
+
+    private static byte[] withoutEntry(byte[] zip, String name) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(zip));
+             ZipOutputStream copy = new ZipOutputStream(out)) {
+            ZipEntry entry;
+            byte[] buffer = new byte[8192];
+            while ((entry = in.getNextEntry()) != null) {
+                if (entry.getName().equals(name)) continue;
+                copy.putNextEntry(new ZipEntry(entry.getName()));
+                int n;
+                while ((n = in.read(buffer)) > 0) copy.write(buffer, 0, n);
+                copy.closeEntry();
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static void assertSameSlides(PPTContent expected, PPTContent actual) {
+        assertEquals(expected.getSlides().size(), actual.getSlides().size());
+        for (int i = 0; i < expected.getSlides().size(); i++) {
+            assertEquals(expected.getSlides().get(i).getTitle(), actual.getSlides().get(i).getTitle());
+            assertEquals(expected.getSlides().get(i).getContentPoints(), actual.getSlides().get(i).getContentPoints());
+        }
+    }
+}
@@ -0,0 +1,425 @@
+package com.student.learncraft;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Seeded generator for synthetic PPTX decks, for tests, load tests and benchmarks.
+ * The same settings and seed always give the same deck, byte for byte.
+ *
+ * <pre>
+ * byte[] pptx = new DeckGenerator().seed(7).slides(500).acronymShare(0.3).toBytes();
+ * </pre>
+ *
+ * content() returns the text the readers are expected to extract from the file.
+ */
+public class DeckGenerator {
+
+    private static final String NS_RELATIONSHIPS =
+            "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+    private static final String NS_PACKAGE_RELATIONSHIPS =
+            "http://schemas.openxmlformats.org/package/2006/relationships";
+    // Fixed entry time so output doesn't depend on the clock
+    private static final long ENTRY_TIME = 946684800000L; // 2000-01-01
+    private static final String XML_HEADER = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>";
+
+    private static final String[] TOPICS = {
+            "Networking", "Databases", "Operating Systems", "Web Development", "Security",
+            "Cloud Computing", "Data Structures", "Software Testing", "Compilers", "Distributed Systems",
+            "Machine Learning", "Computer Architecture"
+    };
+
+    private static final String[] TERMS = {
+            "cache", "scheduler", "index", "protocol", "thread", "transaction", "router", "compiler",
+            "queue", "socket", "kernel", "schema", "container", "pipeline", "module", "framework",
+            "process", "buffer", "register", "gateway", "replica", "tokenizer", "heap", "session"
+    };
+
+    private static final String[] WORDS = {
+            "the", "system", "data", "request", "memory", "network", "each", "client", "server", "stores",
+            "handles", "sends", "reads", "writes", "value", "state", "fast", "reliable", "secure", "shared",
+            "local", "remote", "when", "before", "after", "every", "table", "record", "layer", "service",
+            "load", "time", "order", "error", "update", "version", "access", "control", "result", "input"
+    };
+
+    // Words that made-up acronyms expand to
+    private static final String[] FULL_FORM_WORDS = {
+            "Application", "Binary", "Central", "Data", "Extensible", "File", "Global", "Hyper",
+            "Interface", "Java", "Kernel", "Language", "Memory", "Network", "Object", "Protocol",
+            "Query", "Remote", "System", "Transfer", "Unit", "Virtual", "Web", "Access", "Service",
+            "Processing", "Control", "Markup", "Resource", "Structured"
+    };
+
+    private static final String[] REAL_ACRONYMS = {
+            "AJAX (Asynchronous JavaScript and XML)", "HTTP stands for HyperText Transfer Protocol",
+            "SQL stands for Structured Query Language", "DNS (Domain Name System)",
+            "CPU stands for Central Processing Unit", "API (Application Programming Interface)"
+    };
+
+    private long seed = 1L;
+    private int slides = 20;
+    private int minBullets = 3;
+    private int maxBullets = 6;
+    private int minWords = 6;
+    private int maxWords = 14;
+    private double definitionShare = 0.2;
+    private double acronymShare = 0.1;
+    private double comparisonShare = 0.1;
+    private int longTextBoxChars = 0;
+    private long mediaBytes = 0;
+    private int mediaParts = 0;
+    private String templateText = null;
+
+    public DeckGenerator seed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    public DeckGenerator slides(int slides) {
+        this.slides = slides;
+        return this;
+    }
+
+    public DeckGenerator bulletsPerSlide(int min, int max) {
+        this.minBullets = min;
+        this.maxBullets = Math.max(min, max);
+        return this;
+    }
+
+    /**
+     * Length of plain bullet sentences, in words
+     */
+    public DeckGenerator sentenceWords(int min, int max) {
+        this.minWords = Math.max(2, min);
+        this.maxWords = Math.max(this.minWords, max);
+        return this;
+    }
+
+    /**
+     * Share of bullets written as "X is a ..." definitions
+     */
+    public DeckGenerator definitionShare(double share) {
+        this.definitionShare = share;
+        return this;
+    }
+
+    /**
+     * Share of bullets written as "X stands for Y" or "X (Y)" acronyms
+     */
+    public DeckGenerator acronymShare(double share) {
+        this.acronymShare = share;
+        return this;
+    }
+
+    /**
+     * Share of bullets comparing two terms ("Unlike X, Y ...")
+     */
+    public DeckGenerator comparisonShare(double share) {
+        this.comparisonShare = share;
+        return this;
+    }
+
+    /**
+     * Adds one text box of roughly this many characters to every slide
+     */
+    public DeckGenerator longTextBoxes(int chars) {
+        this.longTextBoxChars = chars;
+        return this;
+    }
+
+    /**
+     * Adds incompressible media parts, linked from the first slides, totalling this many bytes
+     */
+    public DeckGenerator media(int parts, long totalBytes) {
+        this.mediaParts = parts;
+        this.mediaBytes = totalBytes;
+        return this;
+    }
+
+    /**
+     * Repeats the same text box (footer, course banner) on every slide
+     */
+    public DeckGenerator templateText(String text) {
+        this.templateText = text;
+        return this;
+    }
+
+    // Pathological shapes
+
+    public static DeckGenerator hugeDeck() {
+        return new DeckGenerator().slides(5000);
+    }
+
+    public static DeckGenerator longTextDeck() {
+        return new DeckGenerator().slides(50).longTextBoxes(20_000);
+    }
+
+    public static DeckGenerator heavyMediaDeck() {
+        return new DeckGenerator().slides(40).media(40, 100L * 1024 * 1024);
+    }
+
+    public static DeckGenerator templateDeck() {
+        return new DeckGenerator().slides(200)
+                .templateText("Department of Computer Science - CS101 Introduction to Computing - Confidential");
+    }
+
+    /**
+     * The text the readers should extract, slide by slide
+     */
+    public PPTContent content() {
+        Random random = new Random(seed);
+        PPTContent content = new PPTContent(String.format(Locale.US, "synthetic-%d-%d.pptx", seed, slides));
+
+        for (int i = 0; i < slides; i++) {
+            PPTContent.SlideContent slide = new PPTContent.SlideContent();
+            slide.setTitle(pick(random, TOPICS) + " - Part " + (i + 1));
+
+            int bullets = minBullets + random.nextInt(maxBullets - minBullets + 1);
+            for (int b = 0; b < bullets; b++) {
+                slide.addContentPoint(bullet(random));
+            }
+            if (longTextBoxChars > 0) {
+                slide.addContentPoint(longText(random));
+            }
+            if (templateText != null) {
+                slide.addContentPoint(templateText);
+            }
+            content.addSlide(slide);
+        }
+        return content;
+    }
+
+    public byte[] toBytes() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        write(bytes);
+        return bytes.toByteArray();
+    }
+
+    public Path write(Path path) throws IOException {
+        try (OutputStream out = Files.newOutputStream(path)) {
+            write(out);
+        }
+        return path;
+    }
+
+    /**
+     * Writes the deck as a PPTX package (not closing the stream)
+     */
+    public void write(OutputStream outputStream) throws IOException {
+        List<PPTContent.SlideContent> deck = content().getSlides();
+        int mediaCount = mediaBytes > 0 ? Math.max(1, mediaParts) : 0;
+
+        ZipOutputStream zip = new ZipOutputStream(outputStream);
+        putXml(zip, "[Content_Types].xml", contentTypes(deck.size(), mediaCount > 0));
+        putXml(zip, "_rels/.rels", XML_HEADER
+                + "<Relationships xmlns=\"" + NS_PACKAGE_RELATIONSHIPS + "\">"
+                + "<Relationship Id=\"rId1\" Type=\"" + NS_RELATIONSHIPS + "/officeDocument\" Target=\"ppt/presentation.xml\"/>"
+                + "</Relationships>");
+        putXml(zip, PPTStreamReader.PRESENTATION_PART, presentation(deck.size()));
+        putXml(zip, PPTStreamReader.PRESENTATION_RELS_PART, presentationRels(deck.size()));
+
+        for (int i = 0; i < deck.size(); i++) {
+            boolean hasMedia = i < mediaCount;
+            putXml(zip, "ppt/slides/slide" + (i + 1) + ".xml", slideXml(deck.get(i), hasMedia));
+            if (hasMedia) {
+                putXml(zip, "ppt/slides/_rels/slide" + (i + 1) + ".xml.rels", XML_HEADER
+                        + "<Relationships xmlns=\"" + NS_PACKAGE_RELATIONSHIPS + "\">"
+                        + "<Relationship Id=\"rId2\" Type=\"" + NS_RELATIONSHIPS + "/image\" Target=\"../media/image"
+                        + (i + 1) + ".png\"/></Relationships>");
+            }
+        }
+
+        Random mediaRandom = new Random(seed ^ 0x5DEECE66DL);
+        for (int m = 0; m < mediaCount; m++) {
+            long size = mediaBytes / mediaCount + (m < mediaBytes % mediaCount ? 1 : 0);
+            putStored(zip, "ppt/media/image" + (m + 1) + ".png", size, mediaRandom);
+        }
+        zip.finish();
+    }
+
+    private String bullet(Random random) {
+        double roll = random.nextDouble();
+        if (roll < acronymShare) return acronym(random);
+        roll -= acronymShare;
+        if (roll < definitionShare) return definition(random);
+        roll -= definitionShare;
+        if (roll < comparisonShare) return comparison(random);
+        return capitalize(words(random, minWords + random.nextInt(maxWords - minWords + 1)));
+    }
+
+    private String definition(Random random) {
+        String term = capitalize(pick(random, TERMS));
+        String[] links = {" is a ", " refers to ", " is defined as ", " means "};
+        return term + pick(random, links) + words(random, Math.max(3, minWords));
+    }
+
+    private String comparison(Random random) {
+        String a = pick(random, TERMS);
+        String b = pick(random, TERMS);
+        switch (random.nextInt(3)) {
+            case 0: return "Unlike a " + a + ", a " + b + " " + words(random, Math.max(3, minWords - 2));
+            case 1: return "The difference between a " + a + " and a " + b + " is the " + words(random, 3);
+            default: return capitalize(a) + " versus " + b + ": " + words(random, Math.max(3, minWords - 2));
+        }
+    }
+
+    private String acronym(Random random) {
+        if (random.nextInt(4) == 0) return pick(random, REAL_ACRONYMS);
+
+        int length = 2 + random.nextInt(3);
+        StringBuilder letters = new StringBuilder();
+        StringBuilder fullForm = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            String word = pick(random, FULL_FORM_WORDS);
+            letters.append(word.charAt(0));
+            if (i > 0) fullForm.append(' ');
+            fullForm.append(word);
+        }
+        return random.nextBoolean()
+                ? letters + " stands for " + fullForm
+                : letters + " (" + fullForm + ")";
+    }
+
+    private String longText(Random random) {
+        StringBuilder text = new StringBuilder(longTextBoxChars + 64);
+        while (text.length() < longTextBoxChars) {
+            if (text.length() > 0) text.append(' ');
+            text.append(capitalize(words(random, minWords + random.nextInt(maxWords - minWords + 1)))).append('.');
+        }
+        return text.toString();
+    }
+
+    private static String words(Random random, int count) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) sentence.append(' ');
+            sentence.append(pick(random, WORDS));
+        }
+        return sentence.toString();
+    }
+
+    private static String capitalize(String text) {
+        return Character.toUpperCase(text.charAt(0)) + text.substring(1);
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    /* ================= PACKAGE PARTS ================= */
+
+    private static String contentTypes(int slideCount, boolean hasMedia) {
+        StringBuilder xml = new StringBuilder(XML_HEADER)
+                .append("<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">")
+                .append("<Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-package.relationships+xml\"/>")
+                .append("<Default Extension=\"xml\" ContentType=\"application/xml\"/>");
+        if (hasMedia) {
+            xml.append("<Default Extension=\"png\" ContentType=\"image/png\"/>");
+        }
+        xml.append("<Override PartName=\"/ppt/presentation.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.presentationml.presentation.main+xml\"/>");
+        for (int i = 1; i <= slideCount; i++) {
+            xml.append("<Override PartName=\"/ppt/slides/slide").append(i)
+                    .append(".xml\" ContentType=\"application/vnd.openxmlformats-officedocument.presentationml.slide+xml\"/>");
+        }
+        return xml.append("</Types>").toString();
+    }
+
+    private static String presentation(int slideCount) {
+        StringBuilder xml = new StringBuilder(XML_HEADER)
+                .append("<p:presentation xmlns:p=\"").append(SlideXmlParser.NS_PRESENTATION)
+                .append("\" xmlns:r=\"").append(NS_RELATIONSHIPS).append("\"><p:sldIdLst>");
+        for (int i = 1; i <= slideCount; i++) {
+            xml.append("<p:sldId id=\"").append(255 + i).append("\" r:id=\"rId").append(i).append("\"/>");
+        }
+        return xml.append("</p:sldIdLst></p:presentation>").toString();
+    }
+
+    private static String presentationRels(int slideCount) {
+        StringBuilder xml = new StringBuilder(XML_HEADER)
+                .append("<Relationships xmlns=\"").append(NS_PACKAGE_RELATIONSHIPS).append("\">");
+        for (int i = 1; i <= slideCount; i++) {
+            xml.append("<Relationship Id=\"rId").append(i).append("\" Type=\"").append(NS_RELATIONSHIPS)
+                    .append("/slide\" Target=\"slides/slide").append(i).append(".xml\"/>");
+        }
+        return xml.append("</Relationships>").toString();
+    }
+
+    private static String slideXml(PPTContent.SlideContent slide, boolean hasMedia) {
+        StringBuilder xml = new StringBuilder(XML_HEADER)
+                .append("<p:sld xmlns:p=\"").append(SlideXmlParser.NS_PRESENTATION)
+                .append("\" xmlns:a=\"").append(SlideXmlParser.NS_DRAWING)
+                .append("\" xmlns:r=\"").append(NS_RELATIONSHIPS).append("\"><p:cSld><p:spTree>");
+
+        textBox(xml, List.of(slide.getTitle()));
+        // Bullets share one body text box, the way layouts usually place them
+        List<String> body = new ArrayList<>();
+        for (String point : slide.getContentPoints()) body.add(point);
+        if (!body.isEmpty()) textBox(xml, body);
+
+        if (hasMedia) {
+            xml.append("<p:pic><p:blipFill><a:blip r:embed=\"rId2\"/></p:blipFill></p:pic>");
+        }
+        return xml.append("</p:spTree></p:cSld></p:sld>").toString();
+    }
+
+    private static void textBox(StringBuilder xml, List<String> paragraphs) {
+        xml.append("<p:sp><p:txBody>");
+        for (String paragraph : paragraphs) {
+            xml.append("<a:p><a:r><a:t>").append(escape(paragraph)).append("</a:t></a:r></a:p>");
+        }
+        xml.append("</p:txBody></p:sp>");
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+
+    private static void putXml(ZipOutputStream zip, String name, String xml) throws IOException {
+        ZipEntry entry = new ZipEntry(name);
+        entry.setTime(ENTRY_TIME);
+        zip.putNextEntry(entry);
+        zip.write(xml.getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+    }
+
+    /**
+     * Random bytes stored uncompressed, like already-compressed images and video
+     */
+    private static void putStored(ZipOutputStream zip, String name, long size, Random random) throws IOException {
+        byte[] chunk = new byte[64 * 1024];
+        long seed = random.nextLong();
+
+        CRC32 crc = new CRC32();
+        Random data = new Random(seed);
+        for (long left = size; left > 0; left -= chunk.length) {
+            data.nextBytes(chunk);
+            crc.update(chunk, 0, (int) Math.min(chunk.length, left));
+        }
+
+        ZipEntry entry = new ZipEntry(name);
+        entry.setMethod(ZipEntry.STORED);
+        entry.setSize(size);
+        entry.setCompressedSize(size);
+        entry.setCrc(crc.getValue());
+        entry.setTime(ENTRY_TIME);
+        zip.putNextEntry(entry);
+
+        data = new Random(seed);
+        for (long left = size; left > 0; left -= chunk.length) {
+            data.nextBytes(chunk);
+            zip.write(chunk, 0, (int) Math.min(chunk.length, left));
+        }
+        zip.closeEntry();
+    }
+}
@@ -26,4 +26,6 @@ dependencyResolutionManagement {
 
 rootProject.name = "LearnCraft"
 include(":app")
+include(":core")
+include(":benchmark")
  
\ No newline at end of file